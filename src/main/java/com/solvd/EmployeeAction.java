@@ -3,6 +3,8 @@ package com.solvd;
 import com.solvd.domain.Employee;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.persistence.metrics.Instrumentation;
+import com.solvd.persistence.metrics.QueryBudget;
 import com.solvd.service.EmployeeService;
 import com.solvd.service.impl.EmployeeServiceImpl;
 
@@ -10,7 +12,8 @@ import java.util.List;
 import java.util.Scanner;
 
 public class EmployeeAction {
-    private static final EmployeeService EMPLOYEE_SERVICE = new EmployeeServiceImpl();
+    private static final EmployeeService EMPLOYEE_SERVICE = Instrumentation.service(EmployeeService.class,
+            QueryBudget.defaults().track(EmployeeService.class, new EmployeeServiceImpl()));
 
     public static Employee chooseEmployee(Scanner scanner) throws EntityNotFoundException, FieldValidationException {
         System.out.println("Here the list of employees, choose one to show you the property");
@@ -0,0 +1,47 @@
+package com.solvd;
+
+import com.solvd.service.exports.ExportFormat;
+import com.solvd.service.exports.ExportReport;
+import com.solvd.service.exports.RealEstateExporter;
+import com.solvd.service.impl.RealEstateServiceImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class ExportAction {
+    private static final String USAGE = "Usage: export <file.csv|file.jsonl>[.gz] [--format csv|jsonl] [--gzip]";
+
+    public static void exportFile(String[] args) {
+        if (args.length < 2) {
+            System.out.println(USAGE);
+            return;
+        }
+        Path path = Paths.get(args[1]);
+        String fileName = path.getFileName().toString().toLowerCase();
+        boolean gzip = fileName.endsWith(".gz");
+        ExportFormat format = fileName.replaceFirst("\\.gz$", "").endsWith(".csv") ? ExportFormat.CSV : ExportFormat.JSONL;
+        for (int i = 2; i < args.length; i++) {
+            if ("--gzip".equals(args[i])) {
+                gzip = true;
+            } else if ("--format".equals(args[i]) && i + 1 < args.length) {
+                try {
+                    format = ExportFormat.valueOf(args[++i].toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    System.out.println(USAGE);
+                    return;
+                }
+            } else {
+                System.out.println(USAGE);
+                return;
+            }
+        }
+
+        try {
+            ExportReport report = new RealEstateExporter(new RealEstateServiceImpl()).exportTo(path, format, gzip);
+            System.out.println(report);
+        } catch (IOException e) {
+            System.out.println("Export failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.solvd;
+
+import com.solvd.service.impl.RealEstateServiceImpl;
+import com.solvd.service.imports.CsvRecordReader;
+import com.solvd.service.imports.ImportReport;
+import com.solvd.service.imports.JsonLinesRecordReader;
+import com.solvd.service.imports.RealEstateImporter;
+import com.solvd.service.imports.RecordReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class ImportAction {
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_WORKERS = 4;
+    private static final String USAGE =
+            "Usage: import <file.csv|file.jsonl> [--format csv|jsonl] [--batch-size N] [--workers N]";
+
+    public static void importFile(String[] args) {
+        if (args.length < 2) {
+            System.out.println(USAGE);
+            return;
+        }
+        Path path = Paths.get(args[1]);
+        String format = path.getFileName().toString().toLowerCase().endsWith(".csv") ? "csv" : "jsonl";
+        int batchSize = DEFAULT_BATCH_SIZE;
+        int workers = DEFAULT_WORKERS;
+        try {
+            for (int i = 2; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                switch (args[i]) {
+                    case "--format":
+                        format = args[i + 1].toLowerCase();
+                        break;
+                    case "--batch-size":
+                        batchSize = Integer.parseInt(args[i + 1]);
+                        break;
+                    case "--workers":
+                        workers = Integer.parseInt(args[i + 1]);
+                        break;
+                    default:
+                        System.out.println(USAGE);
+                        return;
+                }
+            }
+        } catch (NumberFormatException e) {
+            System.out.println(USAGE);
+            return;
+        }
+        if (batchSize < 1 || workers < 1 || !("csv".equals(format) || "jsonl".equals(format))) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        RealEstateImporter importer = new RealEstateImporter(new RealEstateServiceImpl(), batchSize, workers,
+                reject -> System.out.println("Rejected " + reject));
+        try (BufferedReader bufferedReader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+             RecordReader reader = "csv".equals(format)
+                     ? new CsvRecordReader(bufferedReader)
+                     : new JsonLinesRecordReader(bufferedReader)) {
+            ImportReport report = importer.importFrom(reader);
+            System.out.println(report);
+        } catch (IOException e) {
+            System.out.println("Import failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("Import interrupted");
+        }
+    }
+}
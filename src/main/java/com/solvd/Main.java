@@ -1,10 +1,35 @@
 package com.solvd;
 
+import com.solvd.persistence.metrics.Span;
+import com.solvd.persistence.metrics.Tracer;
+import com.solvd.service.metrics.MetricsServer;
+import com.solvd.service.metrics.PrometheusExporter;
+
+import java.io.IOException;
+import java.util.Optional;
 import java.util.Scanner;
 
 public class Main {
+    private static final int DEFAULT_METRICS_PORT = 8080;
 
     public static void main(String[] args) {
+        if (args.length > 0 && "import".equals(args[0])) {
+            ImportAction.importFile(args);
+            return;
+        }
+        if (args.length > 0 && "export".equals(args[0])) {
+            ExportAction.exportFile(args);
+            return;
+        }
+        Optional<MetricsServer> metricsServer = startMetricsServer();
+        try {
+            runConsole();
+        } finally {
+            metricsServer.ifPresent(MetricsServer::close);
+        }
+    }
+
+    private static void runConsole() {
         Scanner scanner = new Scanner(System.in);
         boolean exitLoop = false;
         System.out.println("Welcome to the Real Estate Agency console app. Please choose an action");
@@ -18,9 +43,15 @@ public class Main {
             String input = scanner.nextLine();
 
             switch (input) {
-                case "0":
-                    UserAction.registerClient(scanner);
+                case "0": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "UserAction.registerClient");
+                    try {
+                        UserAction.registerClient(scanner);
+                    } finally {
+                        span.close();
+                    }
                     break;
+                }
                 case "1":
                     UserAction.login(scanner);
                     break;
@@ -32,4 +63,17 @@ public class Main {
             }
         }
     }
+
+    private static Optional<MetricsServer> startMetricsServer() {
+        int port = Integer.getInteger("metrics.port", DEFAULT_METRICS_PORT);
+        if (port < 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(MetricsServer.start(port, new PrometheusExporter()));
+        } catch (IOException e) {
+            System.out.println("Metrics endpoint is unavailable: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
 }
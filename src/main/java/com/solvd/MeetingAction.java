@@ -4,8 +4,11 @@ import com.solvd.domain.Client;
 import com.solvd.domain.Employee;
 import com.solvd.domain.Meeting;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.persistence.metrics.Instrumentation;
+import com.solvd.persistence.metrics.QueryBudget;
 import com.solvd.service.MeetingService;
 import com.solvd.service.RealEstateService;
 import com.solvd.service.impl.MeetingServiceImpl;
@@ -18,8 +21,10 @@ import java.util.List;
 import java.util.Scanner;
 
 public class MeetingAction {
-    private static final RealEstateService REAL_ESTATE_SERVICE = new RealEstateServiceImpl();
-    private static final MeetingService MEETING_SERVICE = new MeetingServiceImpl();
+    private static final RealEstateService REAL_ESTATE_SERVICE = Instrumentation.service(RealEstateService.class,
+            QueryBudget.defaults().track(RealEstateService.class, new RealEstateServiceImpl()));
+    private static final MeetingService MEETING_SERVICE = Instrumentation.service(MeetingService.class,
+            QueryBudget.defaults().track(MeetingService.class, new MeetingServiceImpl()));
 
     public static void createMeeting(Scanner scanner, Client client, Employee employee) {
         Meeting meeting = new Meeting();
@@ -63,7 +68,7 @@ public class MeetingAction {
         }
     }
 
-    public static void viewClientsMeetings(Scanner scanner, Client client) throws EntityNotFoundException, FieldValidationException {
+    public static void viewClientsMeetings(Scanner scanner, Client client) throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException {
         List<Meeting> meetings = MEETING_SERVICE.getByClient(client);
 
         if (meetings.isEmpty()) {
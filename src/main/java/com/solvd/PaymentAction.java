@@ -2,20 +2,18 @@ package com.solvd;
 
 import com.solvd.domain.Agreement;
 import com.solvd.domain.Client;
-import com.solvd.domain.Meeting;
-import com.solvd.domain.RealEstate;
 import com.solvd.domain.exceptions.EntityNotFoundException;
+import com.solvd.persistence.metrics.Instrumentation;
+import com.solvd.persistence.metrics.QueryBudget;
 import com.solvd.service.AgreementService;
-import com.solvd.service.MeetingService;
 import com.solvd.service.impl.AgreementServiceImpl;
-import com.solvd.service.impl.MeetingServiceImpl;
 
 import java.util.Optional;
 import java.util.Scanner;
 
 public class PaymentAction {
-    private static final AgreementService AGREEMENT_SERVICE = new AgreementServiceImpl();
-    private static final MeetingService MEETING_SERVICE = new MeetingServiceImpl();
+    private static final AgreementService AGREEMENT_SERVICE = Instrumentation.service(AgreementService.class,
+            QueryBudget.defaults().track(AgreementService.class, new AgreementServiceImpl()));
 
     public static void askForPayment(Scanner scanner, Client client) {
         System.out.println("Please pay for your agreement");
@@ -44,12 +42,8 @@ public class PaymentAction {
         if (agreement.isEmpty()) {
             System.out.println("Sorry, you have no agreement to pay for");
         } else {
+            AGREEMENT_SERVICE.settle(agreement.get());
             System.out.println("Thank you for paying for agreement");
-            RealEstate realEstate = agreement.get().getRealEstate();
-            AGREEMENT_SERVICE.deleteById(agreement.get().getId());
-            for (Meeting meetingToDelete : MEETING_SERVICE.getByRealEstate(realEstate)) {
-                MEETING_SERVICE.deleteById(meetingToDelete.getId());
-            }
         }
     }
 }
@@ -4,9 +4,12 @@ import com.solvd.domain.Address;
 import com.solvd.domain.Agreement;
 import com.solvd.domain.Client;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.RealEstateFilter;
 import com.solvd.domain.enums.RealEstateType;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.persistence.metrics.Instrumentation;
+import com.solvd.persistence.metrics.QueryBudget;
 import com.solvd.service.AgreementService;
 import com.solvd.service.RealEstateService;
 import com.solvd.service.impl.AgreementServiceImpl;
@@ -18,8 +21,12 @@ import java.util.List;
 import java.util.Scanner;
 
 public class RealEstateAction {
-    private static final RealEstateService REAL_ESTATE_SERVICE = new RealEstateServiceImpl();
-    private static final AgreementService AGREEMENT_SERVICE = new AgreementServiceImpl();
+    private static final int PAGE_SIZE = 10;
+
+    private static final RealEstateService REAL_ESTATE_SERVICE = Instrumentation.service(RealEstateService.class,
+            QueryBudget.defaults().track(RealEstateService.class, new RealEstateServiceImpl()));
+    private static final AgreementService AGREEMENT_SERVICE = Instrumentation.service(AgreementService.class,
+            QueryBudget.defaults().track(AgreementService.class, new AgreementServiceImpl()));
 
     public static void createRealEstate(Scanner scanner, Client client) {
         Address address = new Address();
@@ -116,23 +123,42 @@ public class RealEstateAction {
                 System.out.println("Invalid option.");
                 return;
         }
-        List<RealEstate> realEstates = REAL_ESTATE_SERVICE.getAllAvailableByType(realEstateType);
-        if (realEstates.isEmpty()) {
+        if (!viewPages(scanner, RealEstateFilter.availableByType(realEstateType))) {
             System.out.println("\nNo real estates by this type");
-        } else {
-            System.out.println(RealEstate.getTableHeader());
-            for (RealEstate rlSt : realEstates) {
-                System.out.println(rlSt);
-            }
         }
     }
 
-    public static void viewAllRealEstates() {
-        List<RealEstate> realEstates = REAL_ESTATE_SERVICE.getAllAvailable();
-        System.out.println(RealEstate.getTableHeader());
-        for (RealEstate item : realEstates) {
-            System.out.println(item);
+    public static void viewAllRealEstates(Scanner scanner) {
+        if (!viewPages(scanner, RealEstateFilter.available())) {
+            System.out.println("\nNo real estates available");
+        }
+    }
+
+    private static boolean viewPages(Scanner scanner, RealEstateFilter filter) {
+        try {
+            List<RealEstate> realEstates = REAL_ESTATE_SERVICE.getPage(0, PAGE_SIZE, filter);
+            if (realEstates.isEmpty()) {
+                return false;
+            }
+            System.out.println(RealEstate.getTableHeader());
+            while (!realEstates.isEmpty()) {
+                for (RealEstate realEstate : realEstates) {
+                    System.out.println(realEstate);
+                }
+                if (realEstates.size() < PAGE_SIZE) {
+                    break;
+                }
+                System.out.print("Enter 'n' to view the next page or anything else to stop: ");
+                if (!"n".equalsIgnoreCase(scanner.nextLine().trim())) {
+                    break;
+                }
+                long lastSeenId = realEstates.get(realEstates.size() - 1).getId();
+                realEstates = REAL_ESTATE_SERVICE.getPage(lastSeenId, PAGE_SIZE, filter);
+            }
+        } catch (FieldValidationException e) {
+            System.out.println(e.getMessage());
         }
+        return true;
     }
 
     public static void orderRealEstate(Scanner scanner, Client client) throws EntityNotFoundException, FieldValidationException {
@@ -4,10 +4,15 @@ import com.solvd.domain.Agreement;
 import com.solvd.domain.Client;
 import com.solvd.domain.Employee;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EmailAlreadyExistsException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.domain.exceptions.PhoneNumberAlreadyExistsException;
+import com.solvd.persistence.metrics.Instrumentation;
+import com.solvd.persistence.metrics.QueryBudget;
+import com.solvd.persistence.metrics.Span;
+import com.solvd.persistence.metrics.Tracer;
 import com.solvd.service.AgreementService;
 import com.solvd.service.ClientService;
 import com.solvd.service.RealEstateService;
@@ -21,9 +26,12 @@ import java.util.Optional;
 import java.util.Scanner;
 
 public class UserAction {
-    private static final ClientService CLIENT_SERVICE = new ClientServiceImpl();
-    private static final RealEstateService REAL_ESTATE_SERVICE = new RealEstateServiceImpl();
-    private static final AgreementService AGREEMENT_SERVICE = new AgreementServiceImpl();
+    private static final ClientService CLIENT_SERVICE = Instrumentation.service(ClientService.class,
+            QueryBudget.defaults().track(ClientService.class, new ClientServiceImpl()));
+    private static final RealEstateService REAL_ESTATE_SERVICE = Instrumentation.service(RealEstateService.class,
+            QueryBudget.defaults().track(RealEstateService.class, new RealEstateServiceImpl()));
+    private static final AgreementService AGREEMENT_SERVICE = Instrumentation.service(AgreementService.class,
+            QueryBudget.defaults().track(AgreementService.class, new AgreementServiceImpl()));
 
     public static void registerClient(Scanner scanner) {
         System.out.println("Please enter your registration details:");
@@ -62,7 +70,7 @@ public class UserAction {
     }
 
     public static void login(Scanner scanner) {
-        Client client = new Client();
+        Client client;
 
         System.out.println("Please enter your logIn details:");
         System.out.print("Please enter your email: ");
@@ -70,20 +78,15 @@ public class UserAction {
         System.out.print("Please enter your phone number: ");
         String phoneNumber = scanner.nextLine();
 
+        Span span = Tracer.defaults().start(Tracer.ACTION, "UserAction.login");
         try {
-            Client clientByEmail = CLIENT_SERVICE.getByEmail(email);
-            Client clientByPhone = CLIENT_SERVICE.getByPhoneNumber(phoneNumber);
-            if (clientByEmail.getId() == clientByPhone.getId()) {
-                client = clientByEmail;
-            } else {
-                System.out.println("Email and phone don`t match");
-                return;
-            }
-
+            client = CLIENT_SERVICE.authenticate(email, phoneNumber);
         } catch (EntityNotFoundException e) {
             System.out.println("\n" + e.getMessage());
             System.out.println("Please try again.");
             return;
+        } finally {
+            span.close();
         }
 
         System.out.println("\n" + "You've successfully Logged In. Hello " + client.getFirstName() + "!");
@@ -115,26 +118,50 @@ public class UserAction {
             String choice = scanner.nextLine();
 
             switch (choice) {
-                case "1":
-                    RealEstateAction.createRealEstate(scanner, client);
-                    break;
-                case "2":
-                    RealEstateAction.viewRealEstateByType(scanner);
+                case "1": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "RealEstateAction.createRealEstate");
+                    try {
+                        RealEstateAction.createRealEstate(scanner, client);
+                    } finally {
+                        span.close();
+                    }
                     break;
-                case "3":
-                    RealEstateAction.viewAllRealEstates();
+                }
+                case "2": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "RealEstateAction.viewRealEstateByType");
+                    try {
+                        RealEstateAction.viewRealEstateByType(scanner);
+                    } finally {
+                        span.close();
+                    }
                     break;
-                case "4":
-                    List<RealEstate> allRealEstates = REAL_ESTATE_SERVICE.getAllBySeller(client);
-                    if (allRealEstates.isEmpty()) {
-                        System.out.println("You do not have real estates");
-                        break;
+                }
+                case "3": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "RealEstateAction.viewAllRealEstates");
+                    try {
+                        RealEstateAction.viewAllRealEstates(scanner);
+                    } finally {
+                        span.close();
                     }
-                    System.out.println(RealEstate.getTableHeader());
-                    for (RealEstate realEstate : allRealEstates) {
-                        System.out.println(realEstate);
+                    break;
+                }
+                case "4": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "UserAction.viewMyRealEstates");
+                    try {
+                        List<RealEstate> allRealEstates = REAL_ESTATE_SERVICE.getAllBySeller(client);
+                        if (allRealEstates.isEmpty()) {
+                            System.out.println("You do not have real estates");
+                            break;
+                        }
+                        System.out.println(RealEstate.getTableHeader());
+                        for (RealEstate realEstate : allRealEstates) {
+                            System.out.println(realEstate);
+                        }
+                    } finally {
+                        span.close();
                     }
                     break;
+                }
                 case "5":
                     System.out.println("You want to create a meet to view Real Estate or you ready to buy?\n" +
                             "1. Create a meeting\n" +
@@ -144,50 +171,88 @@ public class UserAction {
                     String choose = scanner.nextLine();
                     try {
                         switch (choose) {
-                            case "1":
-                                Employee employee = EmployeeAction.chooseEmployee(scanner);
-                                MeetingAction.createMeeting(scanner, client, employee);
+                            case "1": {
+                                Span span = Tracer.defaults().start(Tracer.ACTION, "MeetingAction.createMeeting");
+                                try {
+                                    Employee employee = EmployeeAction.chooseEmployee(scanner);
+                                    MeetingAction.createMeeting(scanner, client, employee);
+                                } finally {
+                                    span.close();
+                                }
                                 break;
-                            case "2":
-                                RealEstateAction.orderRealEstate(scanner, client);
+                            }
+                            case "2": {
+                                Span span = Tracer.defaults().start(Tracer.ACTION, "RealEstateAction.orderRealEstate");
+                                try {
+                                    RealEstateAction.orderRealEstate(scanner, client);
+                                } finally {
+                                    span.close();
+                                }
                                 break;
+                            }
                         }
                     } catch (EntityNotFoundException | FieldValidationException e) {
                         System.out.println(e.getMessage());
                     }
                     break;
-                case "6":
-                    if(deleteAccount(scanner, client)) {
-                        return;
+                case "6": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "UserAction.deleteAccount");
+                    try {
+                        if(deleteAccount(scanner, client)) {
+                            return;
+                        }
+                    } finally {
+                        span.close();
                     }
                     break;
-                case "7":
-                    Optional<Agreement> agreement = AGREEMENT_SERVICE.getByClientId(client.getId());
-                    if (agreement.isPresent()) {
-                        System.out.println(Agreement.getTableHeader());
-                        System.out.println(agreement.get());
-                        System.out.println();
-                    } else {
-                        System.out.println("You have no agreements yet");
+                }
+                case "7": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "UserAction.viewMyAgreements");
+                    try {
+                        Optional<Agreement> agreement = AGREEMENT_SERVICE.getByClientId(client.getId());
+                        if (agreement.isPresent()) {
+                            System.out.println(Agreement.getTableHeader());
+                            System.out.println(agreement.get());
+                            System.out.println();
+                        } else {
+                            System.out.println("You have no agreements yet");
+                        }
+                    } finally {
+                        span.close();
                     }
                     break;
-                case "8":
+                }
+                case "8": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "MeetingAction.viewClientsMeetings");
                     try {
                         MeetingAction.viewClientsMeetings(scanner, client);
-                    } catch (EntityNotFoundException | FieldValidationException e) {
+                    } catch (EntityNotFoundException | FieldValidationException | ConcurrentUpdateException e) {
                         System.out.println(e.getMessage());
+                    } finally {
+                        span.close();
                     }
                     break;
-                case "9":
+                }
+                case "9": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "PaymentAction.payForAgreement");
                     try {
                         PaymentAction.payForAgreement(client);
                     } catch (EntityNotFoundException e) {
                         System.out.println(e.getMessage());
+                    } finally {
+                        span.close();
                     }
                     break;
-                case "10":
-                    settings(scanner, client);
+                }
+                case "10": {
+                    Span span = Tracer.defaults().start(Tracer.ACTION, "UserAction.settings");
+                    try {
+                        settings(scanner, client);
+                    } finally {
+                        span.close();
+                    }
                     break;
+                }
                 case "11":
                     exitLoop = true;
                     break;
@@ -238,7 +303,7 @@ public class UserAction {
                         AGREEMENT_SERVICE.update(agreement.get());
                     }
                 } catch (FieldValidationException | EntityNotFoundException | EmailAlreadyExistsException |
-                         PhoneNumberAlreadyExistsException e) {
+                         PhoneNumberAlreadyExistsException | ConcurrentUpdateException e) {
                     System.out.println(e.getMessage());
                 }
                 break;
@@ -249,7 +314,7 @@ public class UserAction {
                 try {
                     CLIENT_SERVICE.update(client);
                 } catch (FieldValidationException | EntityNotFoundException | EmailAlreadyExistsException |
-                         PhoneNumberAlreadyExistsException e) {
+                         PhoneNumberAlreadyExistsException | ConcurrentUpdateException e) {
                     System.out.println(e.getMessage());
                 }
                 break;
@@ -13,6 +13,7 @@ public class Address {
     private String street;
     private String building;
     private String apartment;
+    private long version;
 
     @Override
     public String toString() {
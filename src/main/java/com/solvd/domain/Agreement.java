@@ -20,6 +20,7 @@ public class Agreement {
     private String status;
     private RealEstate realEstate;
     private Client client;
+    private long version;
 
     public static String getTableHeader() {
         return String.format("\033[1m| %-11s | %-10s | %-12s | %-8s | %-28s |\033[0m",
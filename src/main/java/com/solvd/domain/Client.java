@@ -14,11 +14,24 @@ public class Client {
     private String email;
     private String phoneNumber;
     private Date registrationDate;
+    private long version;
 
     public static Builder builder() {
         return new Builder();
     }
 
+    public Client copy() {
+        Client copy = new Client();
+        copy.id = id;
+        copy.firstName = firstName;
+        copy.lastName = lastName;
+        copy.email = email;
+        copy.phoneNumber = phoneNumber;
+        copy.registrationDate = registrationDate == null ? null : new Date(registrationDate.getTime());
+        copy.version = version;
+        return copy;
+    }
+
     public static String getTableHeader() {
         return String.format("\033[1m| %-8s | %-10s | %-10s |\033[0m",
                 "ClientID", "First name", "Last name");
@@ -4,12 +4,13 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.util.Date;
 
 @Data
 @NoArgsConstructor
 @EqualsAndHashCode(of = "id")
-public class Employee {
+public class Employee implements Serializable {
     private long id;
     private String firstName;
     private String lastName;
@@ -18,6 +19,7 @@ public class Employee {
     private String position;
     private Date hireDate;
     private int salary;
+    private long version;
 
     public Employee(String firstName, String lastName, String email, String phoneNumber, String position, Date hireDate, int salary) {
         this.firstName = firstName;
@@ -17,6 +17,7 @@ public class Meeting {
     private RealEstate realEstate;
     private Client buyer;
     private Employee employee;
+    private long version;
 
     public Meeting(Date meetingDateTime, Date inquiryDate, String meetingStatus, RealEstate realEstate, Client buyer, Employee employee) {
         this.meetingDateTime = meetingDateTime;
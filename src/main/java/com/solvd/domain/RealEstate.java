@@ -22,12 +22,38 @@ public class RealEstate {
     private Client seller;
     private List<Photo> photos = new ArrayList<>();
     private List<Tag> tags = new ArrayList<>();
+    private long version;
 
     public static String getTableHeader() {
         return String.format("\033[1m| %-3s | %-10s | %-31s | %-9s | %-7s | %-5s | %-8s | %-10s\033[0m",
                 "ID", "Type", "Description", "Price", "Metrics", "Rooms", "SellerID", "Address");
     }
 
+    public RealEstate copy() {
+        RealEstate copy = new RealEstate();
+        copy.setId(id);
+        copy.setPrice(price);
+        copy.setAvailable(isAvailable);
+        copy.setDescription(description);
+        copy.setRealEstateType(realEstateType);
+        copy.setMetrics(metrics);
+        copy.setRooms(rooms);
+        copy.setAddress(address == null ? null : copyOf(address));
+        copy.setSeller(seller == null ? null : seller.copy());
+        for (Photo photo : photos) {
+            Photo photoCopy = new Photo();
+            photoCopy.setLink(photo.getLink());
+            copy.addPhoto(photoCopy);
+        }
+        for (Tag tag : tags) {
+            Tag tagCopy = new Tag();
+            tagCopy.setName(tag.getName());
+            copy.addTag(tagCopy);
+        }
+        copy.setVersion(version);
+        return copy;
+    }
+
     public void addPhoto(Photo photo) {
         photos.add(photo);
     }
@@ -44,6 +70,19 @@ public class RealEstate {
         tags.remove(tag);
     }
 
+    private static Address copyOf(Address address) {
+        Address copy = new Address();
+        copy.setId(address.getId());
+        copy.setCountry(address.getCountry());
+        copy.setRegion(address.getRegion());
+        copy.setCity(address.getCity());
+        copy.setStreet(address.getStreet());
+        copy.setBuilding(address.getBuilding());
+        copy.setApartment(address.getApartment());
+        copy.setVersion(address.getVersion());
+        return copy;
+    }
+
     @Override
     public String toString() {
         return String.format("| %-3d | %-10s | %-31s | %-9s | %-7s | %-5s | %-8s | %-30s",
@@ -0,0 +1,27 @@
+package com.solvd.domain;
+
+import com.solvd.domain.enums.RealEstateType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RealEstateFilter {
+    private Boolean available;
+    private RealEstateType realEstateType;
+    private Long sellerId;
+
+    public static RealEstateFilter available() {
+        return new RealEstateFilter(true, null, null);
+    }
+
+    public static RealEstateFilter availableByType(RealEstateType realEstateType) {
+        return new RealEstateFilter(true, realEstateType, null);
+    }
+
+    public static RealEstateFilter bySeller(long sellerId) {
+        return new RealEstateFilter(null, null, sellerId);
+    }
+}
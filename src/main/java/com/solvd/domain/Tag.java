@@ -2,7 +2,9 @@ package com.solvd.domain;
 
 import lombok.Data;
 
+import java.io.Serializable;
+
 @Data
-public class Tag {
+public class Tag implements Serializable {
     private String name;
 }
@@ -0,0 +1,7 @@
+package com.solvd.domain.exceptions;
+
+public class ConcurrentUpdateException extends Exception {
+    public ConcurrentUpdateException(String name, long id) {
+        super(name + " with id " + id + " has been changed by someone else, please reload it and try again");
+    }
+}
@@ -0,0 +1,7 @@
+package com.solvd.domain.exceptions;
+
+public class MalformedRecordException extends Exception {
+    public MalformedRecordException(String message) {
+        super(message);
+    }
+}
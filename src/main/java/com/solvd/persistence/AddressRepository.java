@@ -1,6 +1,7 @@
 package com.solvd.persistence;
 
 import com.solvd.domain.Address;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -8,11 +9,17 @@ import java.util.Optional;
 public interface AddressRepository {
     void create(Address address);
 
+    void createAll(List<Address> addresses);
+
     void deleteById(long id);
 
-    void update(Address address);
+    boolean update(Address address);
 
     Optional<Address> findById(long id);
 
+    boolean existsById(long id);
+
     List<Address> findAll();
+
+    Cursor<Address> streamAll();
 }
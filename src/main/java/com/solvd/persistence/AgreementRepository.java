@@ -2,6 +2,7 @@ package com.solvd.persistence;
 
 import com.solvd.domain.Agreement;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,11 +10,17 @@ import java.util.Optional;
 public interface AgreementRepository {
     void create(@Param("agreement") Agreement agreement, @Param("realEstateId") long realEstateId, @Param("clientId") long clientId);
 
-    void deleteById(long id);
+    boolean deleteById(long id);
 
-    void update(Agreement agreement);
+    boolean update(Agreement agreement);
 
     Optional<Agreement> findById(long id);
 
+    boolean existsById(long id);
+
     List<Agreement> findAll();
+
+    List<Agreement> findAllByClientId(long clientId);
+
+    Cursor<Agreement> streamAll();
 }
@@ -0,0 +1,101 @@
+package com.solvd.persistence;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.decorators.LruCache;
+import org.apache.ibatis.cache.decorators.SerializedCache;
+import org.apache.ibatis.cache.decorators.SynchronizedCache;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BoundedMapperCache implements Cache {
+    private static final int DEFAULT_SIZE = 256;
+    private static final Map<String, BoundedMapperCache> CACHES = new ConcurrentHashMap<>();
+
+    private final String id;
+    private final LruCache lruCache;
+    private final Cache delegate;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public BoundedMapperCache(String id) {
+        this.id = id;
+        this.lruCache = new LruCache(new PerpetualCache(id));
+        this.lruCache.setSize(DEFAULT_SIZE);
+        this.delegate = new SynchronizedCache(new SerializedCache(lruCache));
+        CACHES.put(id, this);
+    }
+
+    public static Optional<BoundedMapperCache> forNamespace(String namespace) {
+        Config.getSessionFactory();
+        return Optional.ofNullable(CACHES.get(namespace));
+    }
+
+    public static Collection<BoundedMapperCache> getAll() {
+        Config.getSessionFactory();
+        return Collections.unmodifiableCollection(CACHES.values());
+    }
+
+    public void setSize(int size) {
+        lruCache.setSize(size);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public double getHitRate() {
+        long requests = hits.get() + misses.get();
+        return requests == 0 ? 0 : (double) hits.get() / requests;
+    }
+
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        delegate.putObject(key, value);
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        Object value = delegate.getObject(key);
+        if (value == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return value;
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        return delegate.removeObject(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public int getSize() {
+        return delegate.getSize();
+    }
+}
@@ -1,6 +1,8 @@
 package com.solvd.persistence;
 
 import com.solvd.domain.Client;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,13 +12,19 @@ public interface ClientRepository {
 
     void deleteById(long id);
 
-    void update(Client client);
+    boolean update(Client client);
 
     Optional<Client> findById(long id);
 
+    boolean existsById(long id);
+
     List<Client> findAll();
 
+    Cursor<Client> streamAll();
+
     Optional<Client> findByEmail(String email);
 
     Optional<Client> findByPhoneNumber(String phoneNumber);
+
+    Optional<Client> findByEmailAndPhoneNumber(@Param("email") String email, @Param("phoneNumber") String phoneNumber);
 }
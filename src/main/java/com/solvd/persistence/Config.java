@@ -1,6 +1,8 @@
 package com.solvd.persistence;
 
 import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 
@@ -17,9 +19,18 @@ public class Config {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        new SchemaMigrator(SESSION_FACTORY.getConfiguration().getEnvironment().getDataSource()).migrate();
     }
 
     public static SqlSessionFactory getSessionFactory() {
         return SESSION_FACTORY;
     }
+
+    public static SqlSession openSession() {
+        return UnitOfWork.currentSession().orElseGet(() -> SESSION_FACTORY.openSession(true));
+    }
+
+    public static SqlSession openBatchSession() {
+        return UnitOfWork.currentSession().orElseGet(() -> SESSION_FACTORY.openSession(ExecutorType.BATCH, false));
+    }
 }
@@ -1,6 +1,7 @@
 package com.solvd.persistence;
 
 import com.solvd.domain.Employee;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,12 +11,16 @@ public interface EmployeeRepository {
 
     void deleteById(long id);
 
-    void update(Employee employee);
+    boolean update(Employee employee);
 
     Optional<Employee> findById(long id);
 
+    boolean existsById(long id);
+
     List<Employee> findAll();
 
+    Cursor<Employee> streamAll();
+
     Optional<Employee> findByEmail(String email);
 
     Optional<Employee> findByPhoneNumber(String phoneNumber);
@@ -0,0 +1,6 @@
+package com.solvd.persistence;
+
+public enum FetchMode {
+    JOIN,
+    BATCH
+}
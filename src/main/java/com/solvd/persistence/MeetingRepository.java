@@ -2,6 +2,7 @@ package com.solvd.persistence;
 
 import com.solvd.domain.Meeting;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,9 +12,21 @@ public interface MeetingRepository {
 
     void deleteById(long id);
 
-    void update(@Param("meeting") Meeting meeting, @Param("realEstateId") Long realEstateId, @Param("buyerId") Long buyerId, @Param("employeeId") Long employeeId);
+    int deleteByRealEstateId(long realEstateId);
+
+    boolean update(@Param("meeting") Meeting meeting, @Param("realEstateId") Long realEstateId, @Param("buyerId") Long buyerId, @Param("employeeId") Long employeeId);
 
     Optional<Meeting> findById(long id);
 
+    boolean existsById(long id);
+
     List<Meeting> findAll();
+
+    List<Meeting> findAllByBuyerId(long buyerId);
+
+    List<Meeting> findAllByRealEstateId(long realEstateId);
+
+    List<Meeting> findAllByEmployeeId(long employeeId);
+
+    Cursor<Meeting> streamAll();
 }
@@ -2,12 +2,16 @@ package com.solvd.persistence;
 
 import com.solvd.domain.Photo;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PhotoRepository {
     void create(@Param("photo") Photo photo, @Param("realEstateId") long realEstateId);
 
+    void createAll(Map<Long, List<Photo>> photosByRealEstateId);
+
     void deleteByRealEstateId(long realEstateId);
 
     void deleteByLink(String link);
@@ -16,5 +20,7 @@ public interface PhotoRepository {
 
     List<Photo> findAll();
 
+    Cursor<Photo> streamAll();
+
     boolean existsByLink(String link);
 }
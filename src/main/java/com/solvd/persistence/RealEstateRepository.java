@@ -1,7 +1,10 @@
 package com.solvd.persistence;
 
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.RealEstateFilter;
+import com.solvd.domain.enums.RealEstateType;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,11 +12,47 @@ import java.util.Optional;
 public interface RealEstateRepository {
     void create(@Param("realEstate") RealEstate realEstate, @Param("clientId") long clientId);
 
+    void createAll(List<RealEstate> realEstates);
+
     void deleteById(long realEstateId);
 
-    void update(RealEstate realEstate);
+    boolean update(RealEstate realEstate);
+
+    boolean hideById(long realEstateId);
+
+    boolean reserve(@Param("realEstateId") long realEstateId, @Param("buyerId") long buyerId);
 
     Optional<RealEstate> findById(long realEstateId);
 
-    List<RealEstate> findAll();
+    boolean existsById(long realEstateId);
+
+    boolean existsAvailableById(long realEstateId);
+
+    default List<RealEstate> findAll() {
+        return findAll(FetchMode.JOIN);
+    }
+
+    List<RealEstate> findAll(@Param("fetchMode") FetchMode fetchMode);
+
+    Cursor<RealEstate> streamAll();
+
+    default List<RealEstate> findAllAvailable() {
+        return findAllAvailable(FetchMode.JOIN);
+    }
+
+    List<RealEstate> findAllAvailable(@Param("fetchMode") FetchMode fetchMode);
+
+    default List<RealEstate> findAllAvailableByType(RealEstateType realEstateType) {
+        return findAllAvailableByType(realEstateType, FetchMode.JOIN);
+    }
+
+    List<RealEstate> findAllAvailableByType(@Param("realEstateType") RealEstateType realEstateType, @Param("fetchMode") FetchMode fetchMode);
+
+    default List<RealEstate> findAllBySellerId(long sellerId) {
+        return findAllBySellerId(sellerId, FetchMode.JOIN);
+    }
+
+    List<RealEstate> findAllBySellerId(@Param("sellerId") long sellerId, @Param("fetchMode") FetchMode fetchMode);
+
+    List<RealEstate> findPage(@Param("afterId") long afterId, @Param("limit") int limit, @Param("filter") RealEstateFilter filter);
 }
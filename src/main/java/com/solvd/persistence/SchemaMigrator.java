@@ -0,0 +1,136 @@
+package com.solvd.persistence;
+
+import org.apache.ibatis.io.Resources;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+public class SchemaMigrator {
+    private static final String LOCATION = "db/migration/";
+    private static final List<String> MIGRATIONS = List.of(
+            "V1__create_schema.sql",
+            "V2__add_query_indexes.sql",
+            "V3__add_versions_and_foreign_key_indexes.sql"
+    );
+
+    private final DataSource dataSource;
+
+    public SchemaMigrator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public int migrate() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            createHistoryTable(connection);
+            Map<Integer, Long> applied = findApplied(connection);
+            int count = 0;
+            for (String script : MIGRATIONS) {
+                int version = parseVersion(script);
+                List<String> commands = split(read(script));
+                long checksum = checksum(commands);
+                if (applied.containsKey(version)) {
+                    if (applied.get(version) != checksum) {
+                        throw new IllegalStateException("Migration " + script + " has been changed after it was applied");
+                    }
+                    continue;
+                }
+                apply(connection, commands);
+                record(connection, version, script, checksum);
+                count++;
+            }
+            return count;
+        } catch (SQLException e) {
+            throw new RuntimeException("Unable to migrate database schema", e);
+        }
+    }
+
+    private void createHistoryTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS schema_migrations (" +
+                    "version INT PRIMARY KEY, " +
+                    "script VARCHAR(200) NOT NULL, " +
+                    "checksum BIGINT NOT NULL, " +
+                    "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        }
+    }
+
+    private Map<Integer, Long> findApplied(Connection connection) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT version, checksum FROM schema_migrations")) {
+            while (resultSet.next()) {
+                applied.put(resultSet.getInt("version"), resultSet.getLong("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    private void apply(Connection connection, List<String> commands) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String command : commands) {
+                statement.execute(command);
+            }
+        }
+    }
+
+    private void record(Connection connection, int version, String script, long checksum) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO schema_migrations (version, script, checksum) VALUES (?, ?, ?)")) {
+            statement.setInt(1, version);
+            statement.setString(2, script);
+            statement.setLong(3, checksum);
+            statement.executeUpdate();
+        }
+    }
+
+    private static List<String> split(String sql) {
+        List<String> commands = new ArrayList<>();
+        StringBuilder command = new StringBuilder();
+        for (String line : sql.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            command.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                commands.add(command.substring(0, command.lastIndexOf(";")));
+                command.setLength(0);
+            }
+        }
+        if (!command.toString().isBlank()) {
+            commands.add(command.toString());
+        }
+        return commands;
+    }
+
+    private static int parseVersion(String script) {
+        return Integer.parseInt(script.substring(1, script.indexOf("__")));
+    }
+
+    private static long checksum(List<String> commands) {
+        CRC32 crc = new CRC32();
+        crc.update(String.join(";", commands).getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static String read(String script) {
+        try (InputStream inputStream = Resources.getResourceAsStream(LOCATION + script)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read migration " + script, e);
+        }
+    }
+}
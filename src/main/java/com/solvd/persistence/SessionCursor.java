@@ -0,0 +1,57 @@
+package com.solvd.persistence;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.Function;
+
+public class SessionCursor<T> implements Cursor<T> {
+    private final SqlSession sqlSession;
+    private final Cursor<T> cursor;
+
+    private SessionCursor(SqlSession sqlSession, Cursor<T> cursor) {
+        this.sqlSession = sqlSession;
+        this.cursor = cursor;
+    }
+
+    public static <M, T> Cursor<T> open(Class<M> mapperType, Function<M, Cursor<T>> query) {
+        SqlSession sqlSession = Config.openSession();
+        try {
+            return new SessionCursor<>(sqlSession, query.apply(sqlSession.getMapper(mapperType)));
+        } catch (RuntimeException e) {
+            sqlSession.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return cursor.isOpen();
+    }
+
+    @Override
+    public boolean isConsumed() {
+        return cursor.isConsumed();
+    }
+
+    @Override
+    public int getCurrentIndex() {
+        return cursor.getCurrentIndex();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return cursor.iterator();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            cursor.close();
+        } finally {
+            sqlSession.close();
+        }
+    }
+}
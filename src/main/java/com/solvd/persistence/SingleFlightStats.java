@@ -0,0 +1,16 @@
+package com.solvd.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SingleFlightStats {
+    private long executed;
+    private long coalesced;
+
+    @Override
+    public String toString() {
+        return String.format("executed=%d, coalesced=%d", executed, coalesced);
+    }
+}
@@ -2,14 +2,21 @@ package com.solvd.persistence;
 
 import com.solvd.domain.Tag;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface TagRepository {
     void create(Tag tag);
 
+    void createAll(Collection<Tag> tags);
+
     void assignToRealEstate(@Param("tag") Tag tag, @Param("realEstateId") long realEstateId);
 
+    void assignAllToRealEstates(Map<Long, List<Tag>> tagsByRealEstateId);
+
     void allocateFromRealEstate(@Param("tag") Tag tag, @Param("realEstateId") long realEstateId);
 
     void deleteByName(String name);
@@ -18,5 +25,9 @@ public interface TagRepository {
 
     List<Tag> findAll();
 
+    List<Tag> findAllByNames(@Param("names") Collection<String> names);
+
+    Cursor<Tag> streamAll();
+
     boolean existsByName(String name);
 }
@@ -0,0 +1,112 @@
+package com.solvd.persistence;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class UnitOfWork implements AutoCloseable {
+    private static final ThreadLocal<Transaction> CURRENT = new ThreadLocal<>();
+    private static final Set<String> SESSION_CONTROL_METHODS = Set.of("commit", "rollback", "close");
+
+    private final Transaction transaction;
+    private final boolean owner;
+    private boolean committed;
+
+    private UnitOfWork(Transaction transaction, boolean owner) {
+        this.transaction = transaction;
+        this.owner = owner;
+    }
+
+    public static UnitOfWork begin() {
+        return begin(ExecutorType.SIMPLE);
+    }
+
+    public static UnitOfWork beginBatch() {
+        return begin(ExecutorType.BATCH);
+    }
+
+    private static UnitOfWork begin(ExecutorType executorType) {
+        Transaction current = CURRENT.get();
+        if (current != null) {
+            return new UnitOfWork(current, false);
+        }
+        Transaction transaction = new Transaction(Config.getSessionFactory().openSession(executorType, false));
+        CURRENT.set(transaction);
+        return new UnitOfWork(transaction, true);
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static void afterCompletion(Runnable callback) {
+        Transaction current = CURRENT.get();
+        if (current == null) {
+            callback.run();
+        } else {
+            current.callbacks.add(callback);
+        }
+    }
+
+    static Optional<SqlSession> currentSession() {
+        return Optional.ofNullable(CURRENT.get()).map(transaction -> transaction.sharedSession);
+    }
+
+    public void commit() {
+        committed = true;
+        if (!owner) {
+            return;
+        }
+        if (transaction.rollbackOnly) {
+            throw new IllegalStateException("Unit of work was marked rollback-only by a nested operation");
+        }
+        transaction.sqlSession.commit();
+    }
+
+    @Override
+    public void close() {
+        if (!owner) {
+            if (!committed) {
+                transaction.rollbackOnly = true;
+            }
+            return;
+        }
+        try {
+            if (!committed || transaction.rollbackOnly) {
+                transaction.sqlSession.rollback();
+            }
+        } finally {
+            CURRENT.remove();
+            transaction.sqlSession.close();
+            transaction.callbacks.forEach(Runnable::run);
+        }
+    }
+
+    private static class Transaction {
+        private final SqlSession sqlSession;
+        private final SqlSession sharedSession;
+        private final List<Runnable> callbacks = new ArrayList<>();
+        private boolean rollbackOnly;
+
+        private Transaction(SqlSession sqlSession) {
+            this.sqlSession = sqlSession;
+            this.sharedSession = (SqlSession) Proxy.newProxyInstance(SqlSession.class.getClassLoader(),
+                    new Class<?>[]{SqlSession.class}, (proxy, method, args) -> {
+                        if (SESSION_CONTROL_METHODS.contains(method.getName())) {
+                            return null;
+                        }
+                        try {
+                            return method.invoke(sqlSession, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.solvd.persistence.impl;
 import com.solvd.domain.Address;
 import com.solvd.persistence.AddressRepository;
 import com.solvd.persistence.Config;
+import com.solvd.persistence.SessionCursor;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 
 import java.util.List;
@@ -11,41 +13,64 @@ import java.util.Optional;
 public class AddressRepositoryMybatisImpl implements AddressRepository {
     @Override
     public void create(Address address) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AddressRepository addressRepository = sqlSession.getMapper(AddressRepository.class);
             addressRepository.create(address);
         }
     }
 
+    @Override
+    public void createAll(List<Address> addresses) {
+        try (SqlSession sqlSession = Config.openBatchSession()) {
+            AddressRepository addressRepository = sqlSession.getMapper(AddressRepository.class);
+            addresses.forEach(addressRepository::create);
+            sqlSession.flushStatements();
+            sqlSession.commit();
+        }
+    }
+
     @Override
     public void deleteById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AddressRepository addressRepository = sqlSession.getMapper(AddressRepository.class);
             addressRepository.deleteById(id);
         }
     }
 
     @Override
-    public void update(Address address) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+    public boolean update(Address address) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AddressRepository addressRepository = sqlSession.getMapper(AddressRepository.class);
-            addressRepository.update(address);
+            return addressRepository.update(address);
         }
     }
 
     @Override
     public Optional<Address> findById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AddressRepository addressRepository = sqlSession.getMapper(AddressRepository.class);
             return addressRepository.findById(id);
         }
     }
 
+    @Override
+    public boolean existsById(long id) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            AddressRepository addressRepository = sqlSession.getMapper(AddressRepository.class);
+            return addressRepository.existsById(id);
+        }
+    }
+
     @Override
     public List<Address> findAll() {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AddressRepository addressRepository = sqlSession.getMapper(AddressRepository.class);
             return addressRepository.findAll();
         }
     }
+
+    @Override
+    public Cursor<Address> streamAll() {
+        return SessionCursor.open(AddressRepository.class, AddressRepository::streamAll);
+    }
 }
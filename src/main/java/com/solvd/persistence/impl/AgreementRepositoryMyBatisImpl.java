@@ -3,6 +3,8 @@ package com.solvd.persistence.impl;
 import com.solvd.domain.Agreement;
 import com.solvd.persistence.AgreementRepository;
 import com.solvd.persistence.Config;
+import com.solvd.persistence.SessionCursor;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 
 import java.util.List;
@@ -12,41 +14,62 @@ public class AgreementRepositoryMyBatisImpl implements AgreementRepository {
 
     @Override
     public void create(Agreement agreement, long realEstateId, long clientId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AgreementRepository agreementRepository = sqlSession.getMapper(AgreementRepository.class);
             agreementRepository.create(agreement, realEstateId, clientId);
         }
     }
 
     @Override
-    public void deleteById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+    public boolean deleteById(long id) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AgreementRepository agreementRepository = sqlSession.getMapper(AgreementRepository.class);
-            agreementRepository.deleteById(id);
+            return agreementRepository.deleteById(id);
         }
     }
 
     @Override
-    public void update(Agreement agreement) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+    public boolean update(Agreement agreement) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AgreementRepository agreementRepository = sqlSession.getMapper(AgreementRepository.class);
-            agreementRepository.update(agreement);
+            return agreementRepository.update(agreement);
         }
     }
 
     @Override
     public Optional<Agreement> findById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AgreementRepository agreementRepository = sqlSession.getMapper(AgreementRepository.class);
             return agreementRepository.findById(id);
         }
     }
 
+    @Override
+    public boolean existsById(long id) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            AgreementRepository agreementRepository = sqlSession.getMapper(AgreementRepository.class);
+            return agreementRepository.existsById(id);
+        }
+    }
+
     @Override
     public List<Agreement> findAll() {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             AgreementRepository agreementRepository = sqlSession.getMapper(AgreementRepository.class);
             return agreementRepository.findAll();
         }
     }
+
+    @Override
+    public List<Agreement> findAllByClientId(long clientId) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            AgreementRepository agreementRepository = sqlSession.getMapper(AgreementRepository.class);
+            return agreementRepository.findAllByClientId(clientId);
+        }
+    }
+
+    @Override
+    public Cursor<Agreement> streamAll() {
+        return SessionCursor.open(AgreementRepository.class, AgreementRepository::streamAll);
+    }
 }
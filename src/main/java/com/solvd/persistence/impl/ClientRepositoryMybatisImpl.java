@@ -3,6 +3,8 @@ package com.solvd.persistence.impl;
 import com.solvd.domain.Client;
 import com.solvd.persistence.ClientRepository;
 import com.solvd.persistence.Config;
+import com.solvd.persistence.SessionCursor;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 
 import java.util.List;
@@ -11,7 +13,7 @@ import java.util.Optional;
 public class ClientRepositoryMybatisImpl implements ClientRepository {
     @Override
     public void create(Client client) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             ClientRepository clientRepository = sqlSession.getMapper(ClientRepository.class);
             clientRepository.create(client);
         }
@@ -19,39 +21,52 @@ public class ClientRepositoryMybatisImpl implements ClientRepository {
 
     @Override
     public void deleteById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             ClientRepository clientRepository = sqlSession.getMapper(ClientRepository.class);
             clientRepository.deleteById(id);
         }
     }
 
     @Override
-    public void update(Client client) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+    public boolean update(Client client) {
+        try (SqlSession sqlSession = Config.openSession()) {
             ClientRepository clientRepository = sqlSession.getMapper(ClientRepository.class);
-            clientRepository.update(client);
+            return clientRepository.update(client);
         }
     }
 
     @Override
     public Optional<Client> findById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             ClientRepository clientRepository = sqlSession.getMapper(ClientRepository.class);
             return clientRepository.findById(id);
         }
     }
 
+    @Override
+    public boolean existsById(long id) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            ClientRepository clientRepository = sqlSession.getMapper(ClientRepository.class);
+            return clientRepository.existsById(id);
+        }
+    }
+
     @Override
     public List<Client> findAll() {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             ClientRepository clientRepository = sqlSession.getMapper(ClientRepository.class);
             return clientRepository.findAll();
         }
     }
 
+    @Override
+    public Cursor<Client> streamAll() {
+        return SessionCursor.open(ClientRepository.class, ClientRepository::streamAll);
+    }
+
     @Override
     public Optional<Client> findByEmail(String email) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             ClientRepository clientRepository = sqlSession.getMapper(ClientRepository.class);
             return clientRepository.findByEmail(email);
         }
@@ -59,9 +74,17 @@ public class ClientRepositoryMybatisImpl implements ClientRepository {
 
     @Override
     public Optional<Client> findByPhoneNumber(String phoneNumber) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             ClientRepository clientRepository = sqlSession.getMapper(ClientRepository.class);
             return clientRepository.findByPhoneNumber(phoneNumber);
         }
     }
+
+    @Override
+    public Optional<Client> findByEmailAndPhoneNumber(String email, String phoneNumber) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            ClientRepository clientRepository = sqlSession.getMapper(ClientRepository.class);
+            return clientRepository.findByEmailAndPhoneNumber(email, phoneNumber);
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package com.solvd.persistence.impl;
+
+import com.solvd.domain.RealEstate;
+import com.solvd.domain.RealEstateFilter;
+import com.solvd.domain.enums.RealEstateType;
+import com.solvd.persistence.FetchMode;
+import com.solvd.persistence.RealEstateRepository;
+import com.solvd.persistence.SingleFlight;
+import com.solvd.persistence.SingleFlightStats;
+import com.solvd.persistence.UnitOfWork;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class CoalescingRealEstateRepository implements RealEstateRepository {
+    private final RealEstateRepository realEstateRepository;
+    private final LongSupplier writeVersion;
+    private final SingleFlight<List<Object>, Object> singleFlight = new SingleFlight<>();
+
+    public CoalescingRealEstateRepository(RealEstateRepository realEstateRepository) {
+        this(realEstateRepository, () -> 0L);
+    }
+
+    public CoalescingRealEstateRepository(RealEstateRepository realEstateRepository, LongSupplier writeVersion) {
+        this.realEstateRepository = realEstateRepository;
+        this.writeVersion = writeVersion;
+    }
+
+    public SingleFlightStats getStats() {
+        return singleFlight.getStats();
+    }
+
+    @Override
+    public void create(RealEstate realEstate, long clientId) {
+        realEstateRepository.create(realEstate, clientId);
+    }
+
+    @Override
+    public void createAll(List<RealEstate> realEstates) {
+        realEstateRepository.createAll(realEstates);
+    }
+
+    @Override
+    public void deleteById(long realEstateId) {
+        realEstateRepository.deleteById(realEstateId);
+    }
+
+    @Override
+    public boolean update(RealEstate realEstate) {
+        return realEstateRepository.update(realEstate);
+    }
+
+    @Override
+    public boolean hideById(long realEstateId) {
+        return realEstateRepository.hideById(realEstateId);
+    }
+
+    @Override
+    public boolean reserve(long realEstateId, long buyerId) {
+        return realEstateRepository.reserve(realEstateId, buyerId);
+    }
+
+    @Override
+    public Optional<RealEstate> findById(long realEstateId) {
+        return coalesce(() -> realEstateRepository.findById(realEstateId), "findById", realEstateId);
+    }
+
+    @Override
+    public boolean existsById(long realEstateId) {
+        return realEstateRepository.existsById(realEstateId);
+    }
+
+    @Override
+    public boolean existsAvailableById(long realEstateId) {
+        return realEstateRepository.existsAvailableById(realEstateId);
+    }
+
+    @Override
+    public List<RealEstate> findAll(FetchMode fetchMode) {
+        return coalesceList(() -> realEstateRepository.findAll(fetchMode), "findAll", fetchMode);
+    }
+
+    @Override
+    public Cursor<RealEstate> streamAll() {
+        return realEstateRepository.streamAll();
+    }
+
+    @Override
+    public List<RealEstate> findAllAvailable(FetchMode fetchMode) {
+        return coalesceList(() -> realEstateRepository.findAllAvailable(fetchMode), "findAllAvailable", fetchMode);
+    }
+
+    @Override
+    public List<RealEstate> findAllAvailableByType(RealEstateType realEstateType, FetchMode fetchMode) {
+        return coalesceList(() -> realEstateRepository.findAllAvailableByType(realEstateType, fetchMode),
+                "findAllAvailableByType", realEstateType, fetchMode);
+    }
+
+    @Override
+    public List<RealEstate> findAllBySellerId(long sellerId, FetchMode fetchMode) {
+        return coalesceList(() -> realEstateRepository.findAllBySellerId(sellerId, fetchMode),
+                "findAllBySellerId", sellerId, fetchMode);
+    }
+
+    @Override
+    public List<RealEstate> findPage(long afterId, int limit, RealEstateFilter filter) {
+        return coalesceList(() -> realEstateRepository.findPage(afterId, limit, filter),
+                "findPage", afterId, limit, filter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(Supplier<T> query, Object... key) {
+        if (UnitOfWork.isActive()) {
+            return query.get();
+        }
+        List<Object> versionedKey = new ArrayList<>(key.length + 1);
+        versionedKey.add(writeVersion.getAsLong());
+        versionedKey.addAll(Arrays.asList(key));
+        return (T) singleFlight.execute(versionedKey, query::get);
+    }
+
+    private List<RealEstate> coalesceList(Supplier<List<RealEstate>> query, Object... key) {
+        return new ArrayList<>(coalesce(query, key));
+    }
+}
@@ -3,6 +3,8 @@ package com.solvd.persistence.impl;
 import com.solvd.domain.Employee;
 import com.solvd.persistence.Config;
 import com.solvd.persistence.EmployeeRepository;
+import com.solvd.persistence.SessionCursor;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 
 import java.util.List;
@@ -11,7 +13,7 @@ import java.util.Optional;
 public class EmployeeRepositoryMybatisImpl implements EmployeeRepository {
     @Override
     public void create(Employee employee) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             EmployeeRepository employeeRepository = sqlSession.getMapper(EmployeeRepository.class);
             employeeRepository.create(employee);
         }
@@ -19,39 +21,52 @@ public class EmployeeRepositoryMybatisImpl implements EmployeeRepository {
 
     @Override
     public void deleteById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             EmployeeRepository employeeRepository = sqlSession.getMapper(EmployeeRepository.class);
             employeeRepository.deleteById(id);
         }
     }
 
     @Override
-    public void update(Employee employee) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+    public boolean update(Employee employee) {
+        try (SqlSession sqlSession = Config.openSession()) {
             EmployeeRepository employeeRepository = sqlSession.getMapper(EmployeeRepository.class);
-            employeeRepository.update(employee);
+            return employeeRepository.update(employee);
         }
     }
 
     @Override
     public Optional<Employee> findById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             EmployeeRepository employeeRepository = sqlSession.getMapper(EmployeeRepository.class);
             return employeeRepository.findById(id);
         }
     }
 
+    @Override
+    public boolean existsById(long id) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            EmployeeRepository employeeRepository = sqlSession.getMapper(EmployeeRepository.class);
+            return employeeRepository.existsById(id);
+        }
+    }
+
     @Override
     public List<Employee> findAll() {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             EmployeeRepository employeeRepository = sqlSession.getMapper(EmployeeRepository.class);
             return employeeRepository.findAll();
         }
     }
 
+    @Override
+    public Cursor<Employee> streamAll() {
+        return SessionCursor.open(EmployeeRepository.class, EmployeeRepository::streamAll);
+    }
+
     @Override
     public Optional<Employee> findByEmail(String email) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             EmployeeRepository employeeRepository = sqlSession.getMapper(EmployeeRepository.class);
             return employeeRepository.findByEmail(email);
         }
@@ -59,7 +74,7 @@ public class EmployeeRepositoryMybatisImpl implements EmployeeRepository {
 
     @Override
     public Optional<Employee> findByPhoneNumber(String phoneNumber) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             EmployeeRepository employeeRepository = sqlSession.getMapper(EmployeeRepository.class);
             return employeeRepository.findByPhoneNumber(phoneNumber);
         }
@@ -3,6 +3,8 @@ package com.solvd.persistence.impl;
 import com.solvd.domain.Meeting;
 import com.solvd.persistence.Config;
 import com.solvd.persistence.MeetingRepository;
+import com.solvd.persistence.SessionCursor;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 
 import java.util.List;
@@ -11,7 +13,7 @@ import java.util.Optional;
 public class MeetingRepositoryMybatisImpl implements MeetingRepository {
     @Override
     public void create(Meeting meeting, Long realEstateId, Long buyerId, Long employeeId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
             meetingRepository.create(meeting, realEstateId, buyerId, employeeId);
         }
@@ -19,33 +21,78 @@ public class MeetingRepositoryMybatisImpl implements MeetingRepository {
 
     @Override
     public void deleteById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
             meetingRepository.deleteById(id);
         }
     }
 
     @Override
-    public void update(Meeting meeting, Long realEstateId, Long buyerId, Long employeeId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+    public int deleteByRealEstateId(long realEstateId) {
+        try (SqlSession sqlSession = Config.openSession()) {
             MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
-            meetingRepository.update(meeting, realEstateId, buyerId, employeeId);
+            return meetingRepository.deleteByRealEstateId(realEstateId);
+        }
+    }
+
+    @Override
+    public boolean update(Meeting meeting, Long realEstateId, Long buyerId, Long employeeId) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
+            return meetingRepository.update(meeting, realEstateId, buyerId, employeeId);
         }
     }
 
     @Override
     public Optional<Meeting> findById(long id) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
             return meetingRepository.findById(id);
         }
     }
 
+    @Override
+    public boolean existsById(long id) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
+            return meetingRepository.existsById(id);
+        }
+    }
+
     @Override
     public List<Meeting> findAll() {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
             return meetingRepository.findAll();
         }
     }
+
+    @Override
+    public List<Meeting> findAllByBuyerId(long buyerId) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
+            return meetingRepository.findAllByBuyerId(buyerId);
+        }
+    }
+
+    @Override
+    public List<Meeting> findAllByRealEstateId(long realEstateId) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
+            return meetingRepository.findAllByRealEstateId(realEstateId);
+        }
+    }
+
+    @Override
+    public List<Meeting> findAllByEmployeeId(long employeeId) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            MeetingRepository meetingRepository = sqlSession.getMapper(MeetingRepository.class);
+            return meetingRepository.findAllByEmployeeId(employeeId);
+        }
+    }
+
+    @Override
+    public Cursor<Meeting> streamAll() {
+        return SessionCursor.open(MeetingRepository.class, MeetingRepository::streamAll);
+    }
 }
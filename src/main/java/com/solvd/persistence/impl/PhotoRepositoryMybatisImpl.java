@@ -3,22 +3,36 @@ package com.solvd.persistence.impl;
 import com.solvd.domain.Photo;
 import com.solvd.persistence.Config;
 import com.solvd.persistence.PhotoRepository;
+import com.solvd.persistence.SessionCursor;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 
 import java.util.List;
+import java.util.Map;
 
 public class PhotoRepositoryMybatisImpl implements PhotoRepository {
     @Override
     public void create(Photo photo, long realEstateId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             PhotoRepository photoRepository = sqlSession.getMapper(PhotoRepository.class);
             photoRepository.create(photo, realEstateId);
         }
     }
 
+    @Override
+    public void createAll(Map<Long, List<Photo>> photosByRealEstateId) {
+        try (SqlSession sqlSession = Config.openBatchSession()) {
+            PhotoRepository photoRepository = sqlSession.getMapper(PhotoRepository.class);
+            photosByRealEstateId.forEach((realEstateId, photos) ->
+                    photos.forEach(photo -> photoRepository.create(photo, realEstateId)));
+            sqlSession.flushStatements();
+            sqlSession.commit();
+        }
+    }
+
     @Override
     public void deleteByRealEstateId(long realEstateId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             PhotoRepository photoRepository = sqlSession.getMapper(PhotoRepository.class);
             photoRepository.deleteByRealEstateId(realEstateId);
         }
@@ -26,7 +40,7 @@ public class PhotoRepositoryMybatisImpl implements PhotoRepository {
 
     @Override
     public void deleteByLink(String link) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             PhotoRepository photoRepository = sqlSession.getMapper(PhotoRepository.class);
             photoRepository.deleteByLink(link);
         }
@@ -34,7 +48,7 @@ public class PhotoRepositoryMybatisImpl implements PhotoRepository {
 
     @Override
     public List<Photo> findAllByRealEstateId(long realEstateId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             PhotoRepository photoRepository = sqlSession.getMapper(PhotoRepository.class);
             return photoRepository.findAllByRealEstateId(realEstateId);
         }
@@ -42,15 +56,20 @@ public class PhotoRepositoryMybatisImpl implements PhotoRepository {
 
     @Override
     public List<Photo> findAll() {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             PhotoRepository photoRepository = sqlSession.getMapper(PhotoRepository.class);
             return photoRepository.findAll();
         }
     }
 
+    @Override
+    public Cursor<Photo> streamAll() {
+        return SessionCursor.open(PhotoRepository.class, PhotoRepository::streamAll);
+    }
+
     @Override
     public boolean existsByLink(String link) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             PhotoRepository photoRepository = sqlSession.getMapper(PhotoRepository.class);
             return photoRepository.existsByLink(link);
         }
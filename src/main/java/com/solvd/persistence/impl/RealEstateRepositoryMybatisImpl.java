@@ -1,51 +1,167 @@
 package com.solvd.persistence.impl;
 
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.RealEstateFilter;
+import com.solvd.domain.enums.RealEstateType;
 import com.solvd.persistence.Config;
+import com.solvd.persistence.FetchMode;
 import com.solvd.persistence.RealEstateRepository;
+import com.solvd.persistence.SessionCursor;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class RealEstateRepositoryMybatisImpl implements RealEstateRepository {
+    private static final int IN_LIST_SIZE = 1000;
+    private static final String FIND_PHOTOS_BY_REAL_ESTATE_IDS = RealEstateRepository.class.getName() + ".findPhotosByRealEstateIds";
+    private static final String FIND_TAGS_BY_REAL_ESTATE_IDS = RealEstateRepository.class.getName() + ".findTagsByRealEstateIds";
+
     @Override
     public void create(RealEstate realEstate, long clientId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
             realEstateRepository.create(realEstate, clientId);
         }
     }
 
+    @Override
+    public void createAll(List<RealEstate> realEstates) {
+        try (SqlSession sqlSession = Config.openBatchSession()) {
+            RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
+            for (RealEstate realEstate : realEstates) {
+                realEstateRepository.create(realEstate, realEstate.getSeller().getId());
+            }
+            sqlSession.flushStatements();
+            sqlSession.commit();
+        }
+    }
+
     @Override
     public void deleteById(long realEstateId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
             realEstateRepository.deleteById(realEstateId);
         }
     }
 
     @Override
-    public void update(RealEstate realEstate) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+    public boolean update(RealEstate realEstate) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
+            return realEstateRepository.update(realEstate);
+        }
+    }
+
+    @Override
+    public boolean hideById(long realEstateId) {
+        try (SqlSession sqlSession = Config.openSession()) {
             RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
-            realEstateRepository.update(realEstate);
+            return realEstateRepository.hideById(realEstateId);
+        }
+    }
+
+    @Override
+    public boolean reserve(long realEstateId, long buyerId) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
+            return realEstateRepository.reserve(realEstateId, buyerId);
         }
     }
 
     @Override
     public Optional<RealEstate> findById(long realEstateId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
             return realEstateRepository.findById(realEstateId);
         }
     }
 
     @Override
-    public List<RealEstate> findAll() {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+    public boolean existsById(long realEstateId) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
+            return realEstateRepository.existsById(realEstateId);
+        }
+    }
+
+    @Override
+    public boolean existsAvailableById(long realEstateId) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
+            return realEstateRepository.existsAvailableById(realEstateId);
+        }
+    }
+
+    @Override
+    public List<RealEstate> findAll(FetchMode fetchMode) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
+            return fetchCollections(sqlSession, realEstateRepository.findAll(fetchMode), fetchMode);
+        }
+    }
+
+    @Override
+    public Cursor<RealEstate> streamAll() {
+        return SessionCursor.open(RealEstateRepository.class, RealEstateRepository::streamAll);
+    }
+
+    @Override
+    public List<RealEstate> findAllAvailable(FetchMode fetchMode) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
+            return fetchCollections(sqlSession, realEstateRepository.findAllAvailable(fetchMode), fetchMode);
+        }
+    }
+
+    @Override
+    public List<RealEstate> findAllAvailableByType(RealEstateType realEstateType, FetchMode fetchMode) {
+        try (SqlSession sqlSession = Config.openSession()) {
             RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
-            return realEstateRepository.findAll();
+            return fetchCollections(sqlSession,
+                    realEstateRepository.findAllAvailableByType(realEstateType, fetchMode), fetchMode);
+        }
+    }
+
+    @Override
+    public List<RealEstate> findAllBySellerId(long sellerId, FetchMode fetchMode) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
+            return fetchCollections(sqlSession, realEstateRepository.findAllBySellerId(sellerId, fetchMode), fetchMode);
+        }
+    }
+
+    @Override
+    public List<RealEstate> findPage(long afterId, int limit, RealEstateFilter filter) {
+        try (SqlSession sqlSession = Config.openSession()) {
+            RealEstateRepository realEstateRepository = sqlSession.getMapper(RealEstateRepository.class);
+            return fetchCollections(sqlSession, realEstateRepository.findPage(afterId, limit, filter), FetchMode.BATCH);
+        }
+    }
+
+    private List<RealEstate> fetchCollections(SqlSession sqlSession, List<RealEstate> realEstates, FetchMode fetchMode) {
+        if (fetchMode != FetchMode.BATCH || realEstates.isEmpty()) {
+            return realEstates;
+        }
+        Map<Long, RealEstate> realEstatesById = new LinkedHashMap<>();
+        for (RealEstate realEstate : realEstates) {
+            realEstatesById.put(realEstate.getId(), realEstate);
+        }
+        List<Long> ids = new ArrayList<>(realEstatesById.keySet());
+        for (int from = 0; from < ids.size(); from += IN_LIST_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_LIST_SIZE, ids.size()));
+            Map<String, Object> parameters = Map.of("realEstateIds", chunk);
+            for (RealEstate withPhotos : sqlSession.<RealEstate>selectList(FIND_PHOTOS_BY_REAL_ESTATE_IDS, parameters)) {
+                realEstatesById.get(withPhotos.getId()).setPhotos(withPhotos.getPhotos());
+            }
+            for (RealEstate withTags : sqlSession.<RealEstate>selectList(FIND_TAGS_BY_REAL_ESTATE_IDS, parameters)) {
+                realEstatesById.get(withTags.getId()).setTags(withTags.getTags());
+            }
         }
+        return realEstates;
     }
 }
@@ -2,32 +2,59 @@ package com.solvd.persistence.impl;
 
 import com.solvd.domain.Tag;
 import com.solvd.persistence.Config;
+import com.solvd.persistence.SessionCursor;
 import com.solvd.persistence.TagRepository;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public class TagRepositoryMybatisImpl implements TagRepository {
+    private static final int IN_LIST_SIZE = 1000;
 
     @Override
     public void create(Tag tag) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
             tagRepository.create(tag);
         }
     }
 
+    @Override
+    public void createAll(Collection<Tag> tags) {
+        try (SqlSession sqlSession = Config.openBatchSession()) {
+            TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
+            tags.forEach(tagRepository::create);
+            sqlSession.flushStatements();
+            sqlSession.commit();
+        }
+    }
+
     @Override
     public void assignToRealEstate(Tag tag, long realEstateId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
             tagRepository.assignToRealEstate(tag, realEstateId);
         }
     }
 
+    @Override
+    public void assignAllToRealEstates(Map<Long, List<Tag>> tagsByRealEstateId) {
+        try (SqlSession sqlSession = Config.openBatchSession()) {
+            TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
+            tagsByRealEstateId.forEach((realEstateId, tags) ->
+                    tags.forEach(tag -> tagRepository.assignToRealEstate(tag, realEstateId)));
+            sqlSession.flushStatements();
+            sqlSession.commit();
+        }
+    }
+
     @Override
     public void allocateFromRealEstate(Tag tag, long realEstateId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
             tagRepository.allocateFromRealEstate(tag, realEstateId);
         }
@@ -35,7 +62,7 @@ public class TagRepositoryMybatisImpl implements TagRepository {
 
     @Override
     public void deleteByName(String name) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
             tagRepository.deleteByName(name);
         }
@@ -43,7 +70,7 @@ public class TagRepositoryMybatisImpl implements TagRepository {
 
     @Override
     public List<Tag> findAllByRealEstateId(long realEstateId) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
             return tagRepository.findAllByRealEstateId(realEstateId);
         }
@@ -51,15 +78,33 @@ public class TagRepositoryMybatisImpl implements TagRepository {
 
     @Override
     public List<Tag> findAll() {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
             return tagRepository.findAll();
         }
     }
 
+    @Override
+    public List<Tag> findAllByNames(Collection<String> names) {
+        List<String> nameList = new ArrayList<>(names);
+        List<Tag> tags = new ArrayList<>();
+        try (SqlSession sqlSession = Config.openSession()) {
+            TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
+            for (int from = 0; from < nameList.size(); from += IN_LIST_SIZE) {
+                tags.addAll(tagRepository.findAllByNames(nameList.subList(from, Math.min(from + IN_LIST_SIZE, nameList.size()))));
+            }
+        }
+        return tags;
+    }
+
+    @Override
+    public Cursor<Tag> streamAll() {
+        return SessionCursor.open(TagRepository.class, TagRepository::streamAll);
+    }
+
     @Override
     public boolean existsByName(String name) {
-        try (SqlSession sqlSession = Config.getSessionFactory().openSession(true)) {
+        try (SqlSession sqlSession = Config.openSession()) {
             TagRepository tagRepository = sqlSession.getMapper(TagRepository.class);
             return tagRepository.existsByName(name);
         }
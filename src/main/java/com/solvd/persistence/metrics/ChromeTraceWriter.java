@@ -0,0 +1,61 @@
+package com.solvd.persistence.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class ChromeTraceWriter implements TraceWriter {
+    private final Path path;
+    private final long processId = ProcessHandle.current().pid();
+
+    public ChromeTraceWriter(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void write(List<TraceEvent> events) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            boolean empty = Files.notExists(path) || Files.size(path) == 0;
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (empty) {
+                    writer.write("[\n");
+                }
+                for (TraceEvent event : events) {
+                    writer.write(toJson(event));
+                    writer.write(",\n");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write trace to " + path, e);
+        }
+    }
+
+    private String toJson(TraceEvent event) {
+        return String.format("{\"name\":\"%s\",\"cat\":\"%s\",\"ph\":\"X\",\"ts\":%d,\"dur\":%d,\"pid\":%d,\"tid\":%d}",
+                escape(event.getName()), escape(event.getCategory()), event.getStartMicros(), event.getDurationMicros(),
+                processId, event.getThreadId());
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.solvd.persistence.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+public class Instrumentation {
+    private static final int MAX_IDS = 16;
+
+    private Instrumentation() {
+    }
+
+    public static <T> T service(Class<T> type, T target) {
+        return Tracer.defaults().wrap(type, recordEvents(type, target, ServiceCallEvent::new), Tracer.SERVICE);
+    }
+
+    public static <T> T repository(Class<T> type, T target) {
+        return Tracer.defaults().wrap(type, recordEvents(type, target, RepositoryCallEvent::new), Tracer.REPOSITORY);
+    }
+
+    static <T> T recordEvents(Class<T> type, T target, Supplier<OperationEvent> events) {
+        String entityType = type.getSimpleName().replaceFirst("(Repository|Service)$", "");
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+            OperationEvent event = events.get();
+            event.begin();
+            Object result = null;
+            boolean failed = true;
+            try {
+                result = method.invoke(target, args);
+                failed = false;
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.operation = type.getSimpleName() + "." + method.getName();
+                    event.entityType = entityType;
+                    event.ids = idsOf(args, result);
+                    event.rows = rowsOf(result);
+                    event.failed = failed;
+                    event.commit();
+                }
+            }
+        }));
+    }
+
+    private static String idsOf(Object[] args, Object result) {
+        StringJoiner ids = new StringJoiner(",");
+        collectIds(result instanceof Optional ? ((Optional<?>) result).orElse(null) : result, ids);
+        if (ids.length() == 0 && args != null) {
+            for (Object arg : args) {
+                collectIds(arg, ids);
+            }
+        }
+        return ids.toString();
+    }
+
+    private static void collectIds(Object value, StringJoiner ids) {
+        if (value instanceof Collection) {
+            int count = 0;
+            for (Object element : (Collection<?>) value) {
+                if (count++ == MAX_IDS) {
+                    ids.add("...");
+                    return;
+                }
+                collectIds(element, ids);
+            }
+        } else if (value instanceof Long) {
+            ids.add(value.toString());
+        } else if (value != null && value.getClass().getPackageName().equals("com.solvd.domain")) {
+            try {
+                ids.add(String.valueOf(value.getClass().getMethod("getId").invoke(value)));
+            } catch (ReflectiveOperationException e) {
+                ids.add("?");
+            }
+        }
+    }
+
+    private static long rowsOf(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof Boolean) {
+            return (Boolean) result ? 1 : 0;
+        }
+        if (result instanceof Number) {
+            return ((Number) result).longValue();
+        }
+        return result == null ? 0 : 1;
+    }
+}
@@ -0,0 +1,25 @@
+package com.solvd.persistence.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+@Category("Real Estate Agency")
+@StackTrace(false)
+public abstract class OperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Ids")
+    String ids;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,102 @@
+package com.solvd.persistence.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class QueryBudget {
+    private static final Logger LOGGER = LogManager.getLogger(QueryBudget.class);
+    private static final String PREFIX = "query.budget";
+    private static final String FAIL_PROPERTY = PREFIX + ".fail";
+    private static final String REPEAT_PROPERTY = PREFIX + ".repeat";
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int DEFAULT_REPEAT_LIMIT = 10;
+    private static final QueryBudget DEFAULTS = fromSystemProperties();
+
+    private final int defaultLimit;
+    private final boolean failOnExceeded;
+    private final Map<String, Integer> limits = new ConcurrentHashMap<>();
+    private volatile int repeatLimit = DEFAULT_REPEAT_LIMIT;
+
+    public QueryBudget(int defaultLimit, boolean failOnExceeded) {
+        this.defaultLimit = defaultLimit;
+        this.failOnExceeded = failOnExceeded;
+    }
+
+    public static QueryBudget defaults() {
+        return DEFAULTS;
+    }
+
+    private static QueryBudget fromSystemProperties() {
+        QueryBudget budget = new QueryBudget(Integer.getInteger(PREFIX, DEFAULT_LIMIT), Boolean.getBoolean(FAIL_PROPERTY))
+                .withRepeatLimit(Integer.getInteger(REPEAT_PROPERTY, DEFAULT_REPEAT_LIMIT));
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PREFIX + ".") && !name.equals(FAIL_PROPERTY) && !name.equals(REPEAT_PROPERTY)) {
+                budget.withLimit(name.substring(PREFIX.length() + 1), Integer.getInteger(name, DEFAULT_LIMIT));
+            }
+        }
+        return budget;
+    }
+
+    public QueryBudget withLimit(String operation, int limit) {
+        limits.put(operation, limit);
+        return this;
+    }
+
+    public QueryBudget withRepeatLimit(int repeatLimit) {
+        this.repeatLimit = repeatLimit;
+        return this;
+    }
+
+    public int limitFor(String operation) {
+        return limits.getOrDefault(operation, defaultLimit);
+    }
+
+    public <T> T track(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+            try (QueryScope scope = QueryScope.open(type.getSimpleName() + "." + method.getName())) {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (scope.isOwner()) {
+                    check(scope.getStats());
+                }
+                return result;
+            }
+        }));
+    }
+
+    public void check(QueryStats stats) {
+        checkRepeats(stats);
+        int limit = limitFor(stats.getOperation());
+        if (stats.getStatements() <= limit) {
+            return;
+        }
+        if (failOnExceeded) {
+            throw new QueryBudgetExceededException(stats, limit);
+        }
+        LOGGER.warn("Query budget of {} exceeded by {}", limit, stats);
+    }
+
+    private void checkRepeats(QueryStats stats) {
+        Map.Entry<String, Integer> repeated = stats.getMostRepeated().orElse(null);
+        if (repeated == null || repeated.getValue() <= repeatLimit) {
+            return;
+        }
+        if (failOnExceeded) {
+            throw new RepeatedStatementException(stats, repeated.getKey(), repeated.getValue(), repeatLimit);
+        }
+        LOGGER.warn("Possible N+1 query: {} executed {} times (repeat limit {}) in {}",
+                repeated.getKey(), repeated.getValue(), repeatLimit, stats);
+    }
+}
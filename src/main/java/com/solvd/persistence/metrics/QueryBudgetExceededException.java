@@ -0,0 +1,22 @@
+package com.solvd.persistence.metrics;
+
+import lombok.Getter;
+
+@Getter
+public class QueryBudgetExceededException extends RuntimeException {
+    private final QueryStats stats;
+    private final int budget;
+
+    public QueryBudgetExceededException(QueryStats stats, int budget) {
+        super(stats.getOperation() + " executed " + stats.getStatements() + " statements in "
+                + stats.getRoundTrips() + " round trips, budget is " + budget);
+        this.stats = stats;
+        this.budget = budget;
+    }
+
+    protected QueryBudgetExceededException(String message, QueryStats stats, int budget) {
+        super(message);
+        this.stats = stats;
+        this.budget = budget;
+    }
+}
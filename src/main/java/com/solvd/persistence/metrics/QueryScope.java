@@ -0,0 +1,76 @@
+package com.solvd.persistence.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class QueryScope implements AutoCloseable {
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+
+    private final Counter counter;
+    private final boolean owner;
+
+    private QueryScope(Counter counter, boolean owner) {
+        this.counter = counter;
+        this.owner = owner;
+    }
+
+    public static QueryScope open(String operation) {
+        Counter current = CURRENT.get();
+        if (current != null) {
+            return new QueryScope(current, false);
+        }
+        Counter counter = new Counter(operation);
+        CURRENT.set(counter);
+        return new QueryScope(counter, true);
+    }
+
+    public static Optional<QueryStats> current() {
+        return Optional.ofNullable(CURRENT.get()).map(Counter::snapshot);
+    }
+
+    static void recordStatement() {
+        Counter current = CURRENT.get();
+        if (current != null) {
+            current.statements++;
+        }
+    }
+
+    static void recordRoundTrip(String statementId) {
+        Counter current = CURRENT.get();
+        if (current != null) {
+            current.roundTrips++;
+            current.executions.merge(statementId, 1, Integer::sum);
+        }
+    }
+
+    public boolean isOwner() {
+        return owner;
+    }
+
+    public QueryStats getStats() {
+        return counter.snapshot();
+    }
+
+    @Override
+    public void close() {
+        if (owner) {
+            CURRENT.remove();
+        }
+    }
+
+    private static class Counter {
+        private final String operation;
+        private int statements;
+        private int roundTrips;
+        private final Map<String, Integer> executions = new LinkedHashMap<>();
+
+        private Counter(String operation) {
+            this.operation = operation;
+        }
+
+        private QueryStats snapshot() {
+            return new QueryStats(operation, statements, roundTrips, Map.copyOf(executions));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.solvd.persistence.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.Optional;
+
+@Data
+@AllArgsConstructor
+public class QueryStats {
+    private String operation;
+    private int statements;
+    private int roundTrips;
+    private Map<String, Integer> executions;
+
+    public Optional<Map.Entry<String, Integer>> getMostRepeated() {
+        return executions.entrySet().stream()
+                .max(Map.Entry.comparingByValue());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: statements=%d, roundTrips=%d%s", operation, statements, roundTrips,
+                getMostRepeated()
+                        .map(repeated -> String.format(", most repeated=%s x%d", repeated.getKey(), repeated.getValue()))
+                        .orElse(""));
+    }
+}
@@ -0,0 +1,16 @@
+package com.solvd.persistence.metrics;
+
+import lombok.Getter;
+
+@Getter
+public class RepeatedStatementException extends QueryBudgetExceededException {
+    private final String statementId;
+    private final int executions;
+
+    public RepeatedStatementException(QueryStats stats, String statementId, int executions, int repeatLimit) {
+        super(stats.getOperation() + " executed " + statementId + " " + executions
+                + " times, repeat limit is " + repeatLimit + " (N+1 query?)", stats, repeatLimit);
+        this.statementId = statementId;
+        this.executions = executions;
+    }
+}
@@ -0,0 +1,9 @@
+package com.solvd.persistence.metrics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.solvd.ServiceCall")
+@Label("Service Call")
+public class ServiceCallEvent extends OperationEvent {
+}
@@ -0,0 +1,26 @@
+package com.solvd.persistence.metrics;
+
+public class Span implements AutoCloseable {
+    static final Span NOOP = new Span(null, null, null, false);
+
+    private final Tracer.Trace trace;
+    private final String category;
+    private final String name;
+    private final boolean root;
+    private final long startNanos = System.nanoTime();
+
+    Span(Tracer.Trace trace, String category, String name, boolean root) {
+        this.trace = trace;
+        this.category = category;
+        this.name = name;
+        this.root = root;
+    }
+
+    @Override
+    public void close() {
+        if (trace == null) {
+            return;
+        }
+        trace.finish(category, name, startNanos, root);
+    }
+}
@@ -0,0 +1,90 @@
+package com.solvd.persistence.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class StatementMetrics implements StatementMetricsMXBean {
+    private final String statementId;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public StatementMetrics(String statementId) {
+        this.statementId = statementId;
+    }
+
+    public void record(long nanos, long rowCount, boolean failed) {
+        calls.increment();
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+        if (failed) {
+            errors.increment();
+        }
+        latency.record(nanos / 1_000);
+    }
+
+    @Override
+    public String getStatementId() {
+        return statementId;
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getRows() {
+        return rows.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getTotalMillis() {
+        return latency.getTotal() / 1_000.0;
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return latency.getMean() / 1_000;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return latency.getPercentile(50) / 1_000.0;
+    }
+
+    @Override
+    public double getP95Millis() {
+        return latency.getPercentile(95) / 1_000.0;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return latency.getPercentile(99) / 1_000.0;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return latency.getMax() / 1_000.0;
+    }
+
+    @Override
+    public void reset() {
+        calls.reset();
+        rows.reset();
+        errors.reset();
+        latency.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: calls=%d, rows=%d, errors=%d, p50=%.3f ms, p95=%.3f ms, p99=%.3f ms, max=%.3f ms",
+                statementId, getCalls(), getRows(), getErrors(), getP50Millis(), getP95Millis(), getP99Millis(), getMaxMillis());
+    }
+}
@@ -0,0 +1,98 @@
+package com.solvd.persistence.metrics;
+
+import com.solvd.persistence.Config;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+    private static final String DOMAIN = "com.solvd.persistence";
+    private static final Map<String, StatementMetrics> METRICS = new ConcurrentHashMap<>();
+
+    public static Optional<StatementMetrics> forStatement(String statementId) {
+        Config.getSessionFactory();
+        return Optional.ofNullable(METRICS.get(statementId));
+    }
+
+    public static Collection<StatementMetrics> getAll() {
+        Config.getSessionFactory();
+        return Collections.unmodifiableCollection(METRICS.values());
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        boolean failed = true;
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            metricsFor(mappedStatement.getId()).record(System.nanoTime() - start, rowsOf(result), failed);
+        }
+    }
+
+    private static long rowsOf(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Integer && (Integer) result != BatchExecutor.BATCH_UPDATE_RETURN_VALUE) {
+            return (Integer) result;
+        }
+        return 0;
+    }
+
+    private static StatementMetrics metricsFor(String statementId) {
+        StatementMetrics metrics = METRICS.get(statementId);
+        if (metrics != null) {
+            return metrics;
+        }
+        return METRICS.computeIfAbsent(statementId, id -> {
+            StatementMetrics created = new StatementMetrics(id);
+            register(created);
+            return created;
+        });
+    }
+
+    private static void register(StatementMetrics metrics) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":type=StatementMetrics,name=" + ObjectName.quote(metrics.getStatementId()));
+            if (!server.isRegistered(name)) {
+                server.registerMBean(metrics, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register statement metrics for " + metrics.getStatementId(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.solvd.persistence.metrics;
+
+public interface StatementMetricsMXBean {
+    String getStatementId();
+
+    long getCalls();
+
+    long getRows();
+
+    long getErrors();
+
+    double getTotalMillis();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+
+    void reset();
+}
@@ -0,0 +1,14 @@
+package com.solvd.persistence.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TraceEvent {
+    private String category;
+    private String name;
+    private long startMicros;
+    private long durationMicros;
+    private long threadId;
+}
@@ -0,0 +1,7 @@
+package com.solvd.persistence.metrics;
+
+import java.util.List;
+
+public interface TraceWriter {
+    void write(List<TraceEvent> events);
+}
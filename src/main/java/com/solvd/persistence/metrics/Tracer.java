@@ -0,0 +1,107 @@
+package com.solvd.persistence.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class Tracer {
+    public static final String ACTION = "action";
+    public static final String SERVICE = "service";
+    public static final String REPOSITORY = "repository";
+    public static final String STATEMENT = "sql";
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+    private static final long EPOCH_MICROS = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    private static final long EPOCH_NANOS = System.nanoTime();
+    private static final Tracer DEFAULTS = new Tracer(Double.parseDouble(System.getProperty("trace.sample", "0")),
+            new ChromeTraceWriter(Paths.get(System.getProperty("trace.file", "logs/trace.json"))));
+
+    private final double sampleRate;
+    private final TraceWriter writer;
+
+    public Tracer(double sampleRate, TraceWriter writer) {
+        this.sampleRate = sampleRate;
+        this.writer = writer;
+    }
+
+    public static Tracer defaults() {
+        return DEFAULTS;
+    }
+
+    public static Span startChild(String category, String name) {
+        Trace current = CURRENT.get();
+        if (current == null || !current.sampled) {
+            return Span.NOOP;
+        }
+        return new Span(current, category, name, false);
+    }
+
+    public boolean isEnabled() {
+        return sampleRate > 0;
+    }
+
+    public Span start(String category, String name) {
+        Trace current = CURRENT.get();
+        if (current != null) {
+            return current.sampled ? new Span(current, category, name, false) : Span.NOOP;
+        }
+        if (!isEnabled()) {
+            return Span.NOOP;
+        }
+        Trace trace = new Trace(writer, ThreadLocalRandom.current().nextDouble() < sampleRate);
+        CURRENT.set(trace);
+        return new Span(trace, category, name, true);
+    }
+
+    public <T> T wrap(Class<T> type, T target, String category) {
+        if (!isEnabled()) {
+            return target;
+        }
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+            Span span = start(category, type.getSimpleName() + "." + method.getName());
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                span.close();
+            }
+        }));
+    }
+
+    static class Trace {
+        private final TraceWriter writer;
+        private final boolean sampled;
+        private final List<TraceEvent> events = new ArrayList<>();
+
+        private Trace(TraceWriter writer, boolean sampled) {
+            this.writer = writer;
+            this.sampled = sampled;
+        }
+
+        void finish(String category, String name, long startNanos, boolean root) {
+            if (sampled) {
+                long startMicros = toEpochMicros(startNanos);
+                events.add(new TraceEvent(category, name, startMicros, toEpochMicros(System.nanoTime()) - startMicros,
+                        Thread.currentThread().getId()));
+            }
+            if (root) {
+                CURRENT.remove();
+                if (sampled) {
+                    writer.write(events);
+                }
+            }
+        }
+
+        private static long toEpochMicros(long nanos) {
+            return EPOCH_MICROS + TimeUnit.NANOSECONDS.toMicros(nanos - EPOCH_NANOS);
+        }
+    }
+}
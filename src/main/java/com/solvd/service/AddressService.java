@@ -1,6 +1,7 @@
 package com.solvd.service;
 
 import com.solvd.domain.Address;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 
@@ -9,9 +10,11 @@ import java.util.List;
 public interface AddressService {
     void create(Address address) throws FieldValidationException;
 
+    void createAll(List<Address> addresses) throws FieldValidationException;
+
     void deleteById(long id);
 
-    void update(Address address) throws EntityNotFoundException, FieldValidationException;
+    void update(Address address) throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException;
 
     Address getById(long id) throws EntityNotFoundException;
 
@@ -1,6 +1,7 @@
 package com.solvd.service;
 
 import com.solvd.domain.Agreement;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 
@@ -12,7 +13,9 @@ public interface AgreementService {
 
     void deleteById(long id);
 
-    void update(Agreement agreement) throws EntityNotFoundException, FieldValidationException;
+    void settle(Agreement agreement) throws EntityNotFoundException;
+
+    void update(Agreement agreement) throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException;
 
     Agreement getById(long id) throws EntityNotFoundException;
 
@@ -1,10 +1,12 @@
 package com.solvd.service;
 
 import com.solvd.domain.Client;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EmailAlreadyExistsException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.domain.exceptions.PhoneNumberAlreadyExistsException;
+import com.solvd.service.cache.CacheStats;
 
 import java.util.List;
 
@@ -13,7 +15,7 @@ public interface ClientService {
 
     void deleteById(long id);
 
-    void update(Client client) throws EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException;
+    void update(Client client) throws EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException, ConcurrentUpdateException;
 
     Client getById(long id) throws EntityNotFoundException;
 
@@ -23,5 +25,9 @@ public interface ClientService {
 
     Client getByPhoneNumber(String phoneNumber) throws EntityNotFoundException;
 
+    Client authenticate(String email, String phoneNumber) throws EntityNotFoundException;
+
     boolean existsById(long id);
+
+    CacheStats getCacheStats();
 }
@@ -1,6 +1,7 @@
 package com.solvd.service;
 
 import com.solvd.domain.Employee;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EmailAlreadyExistsException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
@@ -13,7 +14,7 @@ public interface EmployeeService {
 
     void deleteById(long id);
 
-    void update(Employee employee) throws EmailAlreadyExistsException, EntityNotFoundException, PhoneNumberAlreadyExistsException, FieldValidationException;
+    void update(Employee employee) throws EmailAlreadyExistsException, EntityNotFoundException, PhoneNumberAlreadyExistsException, FieldValidationException, ConcurrentUpdateException;
 
     Employee getById(long id) throws EntityNotFoundException;
 
@@ -1,8 +1,10 @@
 package com.solvd.service;
 
 import com.solvd.domain.Client;
+import com.solvd.domain.Employee;
 import com.solvd.domain.Meeting;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 
@@ -13,7 +15,9 @@ public interface MeetingService {
 
     void deleteById(long id);
 
-    void update(Meeting meeting, Long realEstateId, Long buyerId, Long employeeId) throws EntityNotFoundException, FieldValidationException;
+    int deleteByRealEstateId(long realEstateId);
+
+    void update(Meeting meeting, Long realEstateId, Long buyerId, Long employeeId) throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException;
 
     Meeting getById(long id) throws EntityNotFoundException;
 
@@ -21,5 +25,7 @@ public interface MeetingService {
 
     List<Meeting> getByRealEstate(RealEstate realEstate);
 
+    List<Meeting> getByEmployee(Employee employee);
+
     List<Meeting> getAll();
 }
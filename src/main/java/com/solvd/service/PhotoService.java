@@ -5,10 +5,13 @@ import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.domain.exceptions.LinkAlreadyExistsException;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PhotoService {
     void create(Photo photo, long realEstateId) throws LinkAlreadyExistsException, FieldValidationException;
 
+    void createAll(Map<Long, List<Photo>> photosByRealEstateId) throws FieldValidationException;
+
     void deleteByLink(String link);
 
     void deleteByRealEstateId(long realEstateId);
@@ -2,31 +2,51 @@ package com.solvd.service;
 
 import com.solvd.domain.Client;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.RealEstateFilter;
 import com.solvd.domain.enums.RealEstateType;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.persistence.SingleFlightStats;
+import com.solvd.service.cache.CacheStats;
+import com.solvd.service.cache.ResultCacheStats;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
 public interface RealEstateService {
     void create(RealEstate realEstate, long clientId) throws FieldValidationException;
 
+    void createAll(List<RealEstate> realEstates) throws FieldValidationException;
+
     void deleteById(long realEstateId);
 
-    void update(RealEstate realEstate) throws EntityNotFoundException, FieldValidationException;
+    void update(RealEstate realEstate) throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException;
 
     RealEstate getAvailableById(long realEstateId) throws EntityNotFoundException;
 
     List<RealEstate> getAll();
 
+    Cursor<RealEstate> streamAll();
+
     List<RealEstate> getAllAvailable();
 
     List<RealEstate> getAllBySeller(Client seller);
 
     List<RealEstate> getAllAvailableByType(RealEstateType realEstateType);
 
+    List<RealEstate> getPage(long afterId, int limit, RealEstateFilter filter) throws FieldValidationException;
+
     boolean existsAvailableById(long id);
 
     void hideById(long id) throws EntityNotFoundException;
 
+    void reserve(long id, long buyerId) throws EntityNotFoundException, FieldValidationException;
+
+    CacheStats getCacheStats();
+
+    ResultCacheStats getResultCacheStats();
+
+    SingleFlightStats getCoalescingStats();
+
 }
\ No newline at end of file
@@ -4,10 +4,13 @@ import com.solvd.domain.Tag;
 import com.solvd.domain.exceptions.FieldValidationException;
 
 import java.util.List;
+import java.util.Map;
 
 public interface TagService {
     void assignToRealEstate(Tag tag, long realEstateId) throws FieldValidationException;
 
+    void assignAllToRealEstates(Map<Long, List<Tag>> tagsByRealEstateId) throws FieldValidationException;
+
     void allocateFromRealEstate(Tag tag, long realEstateId);
 
     void deleteByName(String name);
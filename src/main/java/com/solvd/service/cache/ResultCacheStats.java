@@ -0,0 +1,20 @@
+package com.solvd.service.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ResultCacheStats {
+    private long hits;
+    private long staleHits;
+    private long misses;
+    private long refreshes;
+    private long version;
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, stale hits=%d, misses=%d, refreshes=%d, version=%d",
+                hits, staleHits, misses, refreshes, version);
+    }
+}
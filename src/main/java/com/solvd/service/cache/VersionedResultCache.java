@@ -0,0 +1,110 @@
+package com.solvd.service.cache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public class VersionedResultCache<K, V> {
+    private final AtomicLong version = new AtomicLong();
+    private final ThreadLocal<Long> lastWrittenVersion = ThreadLocal.withInitial(() -> 0L);
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Executor refresher;
+    private final int maxSize;
+    private final long maxAgeNanos;
+    private final UnaryOperator<V> copier;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+
+    public VersionedResultCache(Executor refresher, int maxSize, Duration maxAge) {
+        this(refresher, maxSize, maxAge, UnaryOperator.identity());
+    }
+
+    public VersionedResultCache(Executor refresher, int maxSize, Duration maxAge, UnaryOperator<V> copier) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.refresher = refresher;
+        this.maxSize = maxSize;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.copier = copier;
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.version < lastWrittenVersion.get() || entry.isExpired(System.nanoTime())) {
+            misses.incrementAndGet();
+            return load(key, loader);
+        }
+        if (entry.version == version.get()) {
+            hits.incrementAndGet();
+            return copier.apply(entry.value);
+        }
+        staleHits.incrementAndGet();
+        if (entry.refreshing.compareAndSet(false, true)) {
+            try {
+                refresher.execute(() -> {
+                    try {
+                        refreshes.incrementAndGet();
+                        load(key, loader);
+                    } finally {
+                        entry.refreshing.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                entry.refreshing.set(false);
+            }
+        }
+        return copier.apply(entry.value);
+    }
+
+    public void bumpVersion() {
+        lastWrittenVersion.set(version.incrementAndGet());
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public ResultCacheStats getStats() {
+        return new ResultCacheStats(hits.get(), staleHits.get(), misses.get(), refreshes.get(), version.get());
+    }
+
+    private V load(K key, Supplier<V> loader) {
+        long loadVersion = version.get();
+        long loadedAt = System.nanoTime();
+        V value = loader.get();
+        entries.merge(key, new Entry<>(copier.apply(value), loadVersion, loadedAt + maxAgeNanos),
+                (cached, loaded) -> loaded.version >= cached.version ? loaded : cached);
+        while (entries.size() > maxSize) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(cached -> cached.getValue().expiresAt - loadedAt))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+        return value;
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long version;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(V value, long version, long expiresAt) {
+            this.value = value;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
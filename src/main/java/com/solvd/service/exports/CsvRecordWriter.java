@@ -0,0 +1,47 @@
+package com.solvd.service.exports;
+
+import com.solvd.domain.RealEstate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public class CsvRecordWriter implements RecordWriter {
+    private final Writer writer;
+
+    public CsvRecordWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write(String.join(",", COLUMNS));
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(RealEstate realEstate) throws IOException {
+        List<String> values = ExportValues.of(realEstate);
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values.get(i));
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
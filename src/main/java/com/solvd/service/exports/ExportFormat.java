@@ -0,0 +1,5 @@
+package com.solvd.service.exports;
+
+public enum ExportFormat {
+    CSV, JSONL
+}
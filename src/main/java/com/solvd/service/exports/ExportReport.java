@@ -0,0 +1,22 @@
+package com.solvd.service.exports;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ExportReport {
+    private long rows;
+    private long bytes;
+    private long elapsedNanos;
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Exported %d rows (%d bytes) in %.2f s (%.0f rows/sec)",
+                rows, bytes, elapsedNanos / 1_000_000_000.0, getRowsPerSecond());
+    }
+}
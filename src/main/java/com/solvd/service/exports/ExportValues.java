@@ -0,0 +1,44 @@
+package com.solvd.service.exports;
+
+import com.solvd.domain.Address;
+import com.solvd.domain.Client;
+import com.solvd.domain.Photo;
+import com.solvd.domain.RealEstate;
+import com.solvd.domain.Tag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class ExportValues {
+    private static final String LIST_SEPARATOR = "|";
+
+    private ExportValues() {
+    }
+
+    static List<String> of(RealEstate realEstate) {
+        Address address = realEstate.getAddress() == null ? new Address() : realEstate.getAddress();
+        Client seller = realEstate.getSeller() == null ? new Client() : realEstate.getSeller();
+        return Arrays.asList(
+                String.valueOf(realEstate.getId()),
+                address.getCountry(),
+                address.getRegion(),
+                address.getCity(),
+                address.getStreet(),
+                address.getBuilding(),
+                address.getApartment(),
+                realEstate.getPrice() == null ? null : realEstate.getPrice().toPlainString(),
+                realEstate.getDescription(),
+                realEstate.getRealEstateType() == null ? null : realEstate.getRealEstateType().name(),
+                realEstate.getMetrics(),
+                String.valueOf(realEstate.getRooms()),
+                String.valueOf(realEstate.isAvailable()),
+                String.valueOf(seller.getId()),
+                seller.getFirstName(),
+                seller.getLastName(),
+                seller.getEmail(),
+                seller.getPhoneNumber(),
+                realEstate.getPhotos().stream().map(Photo::getLink).collect(Collectors.joining(LIST_SEPARATOR)),
+                realEstate.getTags().stream().map(Tag::getName).collect(Collectors.joining(LIST_SEPARATOR)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.solvd.service.exports;
+
+import com.solvd.domain.Photo;
+import com.solvd.domain.RealEstate;
+import com.solvd.domain.Tag;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class JsonLinesRecordWriter implements RecordWriter {
+    private static final int LIST_COLUMNS = 2;
+
+    private final Writer writer;
+
+    public JsonLinesRecordWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(RealEstate realEstate) throws IOException {
+        List<String> values = ExportValues.of(realEstate);
+        writer.write('{');
+        for (int i = 0; i < COLUMNS.length - LIST_COLUMNS; i++) {
+            writeString(COLUMNS[i]);
+            writer.write(':');
+            if (values.get(i) == null) {
+                writer.write("null");
+            } else {
+                writeString(values.get(i));
+            }
+            writer.write(',');
+        }
+        writeString("photos");
+        writer.write(':');
+        writeArray(realEstate.getPhotos().stream().map(Photo::getLink).collect(Collectors.toList()));
+        writer.write(',');
+        writeString("tags");
+        writer.write(':');
+        writeArray(realEstate.getTags().stream().map(Tag::getName).collect(Collectors.toList()));
+        writer.write("}\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeArray(List<String> values) throws IOException {
+        writer.write('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeString(values.get(i));
+        }
+        writer.write(']');
+    }
+
+    private void writeString(String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+}
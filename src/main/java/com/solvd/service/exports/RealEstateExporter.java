@@ -0,0 +1,50 @@
+package com.solvd.service.exports;
+
+import com.solvd.domain.RealEstate;
+import com.solvd.service.RealEstateService;
+import lombok.AllArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+@AllArgsConstructor
+public class RealEstateExporter {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final RealEstateService realEstateService;
+
+    public ExportReport exportTo(Path path, ExportFormat format, boolean gzip) throws IOException {
+        long start = System.nanoTime();
+        long rows = 0;
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             RecordWriter writer = openWriter(channel, format, gzip);
+             Cursor<RealEstate> cursor = realEstateService.streamAll()) {
+            for (RealEstate realEstate : cursor) {
+                writer.write(realEstate);
+                rows++;
+            }
+        }
+        return new ExportReport(rows, Files.size(path), System.nanoTime() - start);
+    }
+
+    private RecordWriter openWriter(FileChannel channel, ExportFormat format, boolean gzip) throws IOException {
+        OutputStream outputStream = Channels.newOutputStream(channel);
+        if (gzip) {
+            outputStream = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        return format == ExportFormat.CSV ? new CsvRecordWriter(writer) : new JsonLinesRecordWriter(writer);
+    }
+}
@@ -0,0 +1,16 @@
+package com.solvd.service.exports;
+
+import com.solvd.domain.RealEstate;
+
+import java.io.IOException;
+
+public interface RecordWriter extends AutoCloseable {
+    String[] COLUMNS = {"id", "country", "region", "city", "street", "building", "apartment", "price", "description",
+            "type", "metrics", "rooms", "available", "seller_id", "seller_first_name", "seller_last_name",
+            "seller_email", "seller_phone_number", "photos", "tags"};
+
+    void write(RealEstate realEstate) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -1,10 +1,12 @@
 package com.solvd.service.impl;
 
 import com.solvd.domain.Address;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.persistence.AddressRepository;
 import com.solvd.persistence.impl.AddressRepositoryMybatisImpl;
+import com.solvd.persistence.metrics.Instrumentation;
 import com.solvd.service.AddressService;
 import com.solvd.service.validators.Validator;
 import com.solvd.service.validators.object.NotNullObjectValidator;
@@ -20,7 +22,7 @@ public class AddressServiceImpl implements AddressService {
     private final AddressRepository addressRepository;
 
     public AddressServiceImpl() {
-        this.addressRepository = new AddressRepositoryMybatisImpl();
+        this.addressRepository = Instrumentation.repository(AddressRepository.class, new AddressRepositoryMybatisImpl());
     }
 
     @Override
@@ -29,18 +31,31 @@ public class AddressServiceImpl implements AddressService {
         addressRepository.create(address);
     }
 
+    @Override
+    public void createAll(List<Address> addresses) throws FieldValidationException {
+        for (Address address : addresses) {
+            validate(address);
+        }
+        addressRepository.createAll(addresses);
+    }
+
     @Override
     public void deleteById(long id) {
         addressRepository.deleteById(id);
+        RealEstateServiceImpl.catalogChanged();
     }
 
     @Override
-    public void update(Address address) throws EntityNotFoundException, FieldValidationException {
-        if (addressRepository.findById(address.getId()).isEmpty()) {
-            throw new EntityNotFoundException("Address", address.getId());
-        }
+    public void update(Address address) throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException {
         validate(address);
-        addressRepository.update(address);
+        if (!addressRepository.update(address)) {
+            if (!addressRepository.existsById(address.getId())) {
+                throw new EntityNotFoundException("Address", address.getId());
+            }
+            throw new ConcurrentUpdateException("Address", address.getId());
+        }
+        RealEstateServiceImpl.catalogChanged();
+        address.setVersion(address.getVersion() + 1);
     }
 
     @Override
@@ -1,12 +1,16 @@
 package com.solvd.service.impl;
 
 import com.solvd.domain.Agreement;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.persistence.AgreementRepository;
+import com.solvd.persistence.UnitOfWork;
 import com.solvd.persistence.impl.AgreementRepositoryMyBatisImpl;
+import com.solvd.persistence.metrics.Instrumentation;
 import com.solvd.service.AgreementService;
 import com.solvd.service.ClientService;
+import com.solvd.service.MeetingService;
 import com.solvd.service.RealEstateService;
 import com.solvd.service.validators.Validator;
 import com.solvd.service.validators.bigint.MaxLongValidator;
@@ -25,31 +29,23 @@ public class AgreementServiceImpl implements AgreementService {
     private final AgreementRepository agreementRepository;
     private final RealEstateService realEstateService;
     private final ClientService clientService;
+    private final MeetingService meetingService;
 
     public AgreementServiceImpl() {
-        this.agreementRepository = new AgreementRepositoryMyBatisImpl();
-        this.realEstateService = new RealEstateServiceImpl();
-        this.clientService = new ClientServiceImpl();
+        this.agreementRepository = Instrumentation.repository(AgreementRepository.class, new AgreementRepositoryMyBatisImpl());
+        this.realEstateService = Instrumentation.service(RealEstateService.class, new RealEstateServiceImpl());
+        this.clientService = Instrumentation.service(ClientService.class, new ClientServiceImpl());
+        this.meetingService = Instrumentation.service(MeetingService.class, new MeetingServiceImpl());
     }
 
     @Override
     public void create(Agreement agreement, long realEstateId, long clientId) throws EntityNotFoundException, FieldValidationException {
         validate(agreement);
-        checkRealEstate(realEstateId);
         checkClient(clientId);
-
-        if (agreement.getClient().equals(realEstateService.getAvailableById(realEstateId).getSeller())) {
-            throw new FieldValidationException("You cannot order your real estate");
-        } else {
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            realEstateService.reserve(realEstateId, clientId);
             agreementRepository.create(agreement, realEstateId, clientId);
-        }
-
-        realEstateService.hideById(realEstateId);
-    }
-
-    private void checkRealEstate(long realEstateId) throws EntityNotFoundException {
-        if (!realEstateService.existsAvailableById(realEstateId)) {
-            throw new EntityNotFoundException("Real estate", realEstateId);
+            unitOfWork.commit();
         }
     }
 
@@ -79,12 +75,26 @@ public class AgreementServiceImpl implements AgreementService {
     }
 
     @Override
-    public void update(Agreement agreement) throws EntityNotFoundException, FieldValidationException {
-        if (agreementRepository.findById(agreement.getId()).isEmpty()) {
-            throw new EntityNotFoundException("Agreement", agreement.getId());
+    public void settle(Agreement agreement) throws EntityNotFoundException {
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            if (!agreementRepository.deleteById(agreement.getId())) {
+                throw new EntityNotFoundException("Agreement", agreement.getId());
+            }
+            meetingService.deleteByRealEstateId(agreement.getRealEstate().getId());
+            unitOfWork.commit();
         }
+    }
+
+    @Override
+    public void update(Agreement agreement) throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException {
         validate(agreement);
-        agreementRepository.update(agreement);
+        if (!agreementRepository.update(agreement)) {
+            if (!agreementRepository.existsById(agreement.getId())) {
+                throw new EntityNotFoundException("Agreement", agreement.getId());
+            }
+            throw new ConcurrentUpdateException("Agreement", agreement.getId());
+        }
+        agreement.setVersion(agreement.getVersion() + 1);
     }
 
     @Override
@@ -100,9 +110,7 @@ public class AgreementServiceImpl implements AgreementService {
 
     @Override
     public Optional<Agreement> getByClientId(long clientId) {
-        return getAll().stream()
-                .filter(agreement -> agreement.getClient().getId() == clientId)
+        return agreementRepository.findAllByClientId(clientId).stream()
                 .findFirst();
-
     }
 }
@@ -1,58 +1,85 @@
 package com.solvd.service.impl;
 
 import com.solvd.domain.Client;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EmailAlreadyExistsException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.domain.exceptions.PhoneNumberAlreadyExistsException;
 import com.solvd.persistence.ClientRepository;
+import com.solvd.persistence.UnitOfWork;
 import com.solvd.persistence.impl.ClientRepositoryMybatisImpl;
+import com.solvd.persistence.metrics.Instrumentation;
 import com.solvd.service.ClientService;
 import com.solvd.service.PersonService;
+import com.solvd.service.cache.CacheStats;
+import com.solvd.service.cache.LruCache;
 import com.solvd.service.validators.Validator;
 import com.solvd.service.validators.date.NotNullDateValidator;
 import com.solvd.service.validators.date.PastDateValidator;
 import com.solvd.service.validators.object.NotNullObjectValidator;
 import lombok.AllArgsConstructor;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @AllArgsConstructor
 public class ClientServiceImpl implements ClientService {
+    private static final int CLIENT_CACHE_SIZE = 256;
+    private static final Duration CLIENT_CACHE_TTL = Duration.ofMinutes(10);
+    private static final LruCache<Long, Client> CLIENT_CACHE = new LruCache<>(CLIENT_CACHE_SIZE, CLIENT_CACHE_TTL, Client::copy);
+    private static final LruCache<String, Client> LOGIN_CACHE = new LruCache<>(CLIENT_CACHE_SIZE, CLIENT_CACHE_TTL, Client::copy);
+
     private final ClientRepository clientRepository;
+    private final LruCache<Long, Client> clientCache;
+    private final LruCache<String, Client> loginCache;
 
     public ClientServiceImpl() {
-        this.clientRepository = new ClientRepositoryMybatisImpl();
+        this.clientRepository = Instrumentation.repository(ClientRepository.class, new ClientRepositoryMybatisImpl());
+        this.clientCache = CLIENT_CACHE;
+        this.loginCache = LOGIN_CACHE;
     }
 
     @Override
     public void create(Client client) throws EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException {
         validate(client);
-        checkEmailAndPhoneNumber(client);
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            checkEmailAndPhoneNumber(client);
 
-        clientRepository.create(client);
+            clientRepository.create(client);
+            unitOfWork.commit();
+        }
     }
 
     @Override
     public void deleteById(long id) {
         clientRepository.deleteById(id);
+        invalidate(id);
     }
 
     @Override
-    public void update(Client client) throws EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException {
-        if (clientRepository.findById(client.getId()).isEmpty()) {
-            throw new EntityNotFoundException("Client", client.getId());
-        }
+    public void update(Client client) throws EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException, ConcurrentUpdateException {
         validate(client);
-        checkEmailAndPhoneNumber(client);
-
-        clientRepository.update(client);
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            checkEmailAndPhoneNumber(client);
+
+            if (!clientRepository.update(client)) {
+                if (!clientRepository.existsById(client.getId())) {
+                    throw new EntityNotFoundException("Client", client.getId());
+                }
+                throw new ConcurrentUpdateException("Client", client.getId());
+            }
+            invalidate(client.getId());
+            unitOfWork.commit();
+        }
+        client.setVersion(client.getVersion() + 1);
     }
 
     @Override
     public Client getById(long id) throws EntityNotFoundException {
-        return clientRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Client", id));
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("Client", id));
     }
 
     @Override
@@ -70,9 +97,48 @@ public class ClientServiceImpl implements ClientService {
         return clientRepository.findByPhoneNumber(phoneNumber).orElseThrow(() -> new EntityNotFoundException("Client", "phone number"));
     }
 
+    @Override
+    public Client authenticate(String email, String phoneNumber) throws EntityNotFoundException {
+        if (UnitOfWork.isActive()) {
+            return clientRepository.findByEmailAndPhoneNumber(email, phoneNumber)
+                    .orElseThrow(() -> new EntityNotFoundException("Client", "email and phone number"));
+        }
+        long clientGeneration = clientCache.getGeneration();
+        Client client = loginCache.getOrLoad(email + '\n' + phoneNumber,
+                        key -> clientRepository.findByEmailAndPhoneNumber(email, phoneNumber))
+                .orElseThrow(() -> new EntityNotFoundException("Client", "email and phone number"));
+        clientCache.putIfUnchanged(client.getId(), client, clientGeneration);
+        return client;
+    }
+
     @Override
     public boolean existsById(long id) {
-        return clientRepository.findById(id).isPresent();
+        if (UnitOfWork.isActive()) {
+            return clientRepository.existsById(id);
+        }
+        return clientCache.get(id).isPresent() || clientRepository.existsById(id);
+    }
+
+    @Override
+    public CacheStats getCacheStats() {
+        return clientCache.getStats();
+    }
+
+    private Optional<Client> findById(long id) {
+        if (UnitOfWork.isActive()) {
+            return clientRepository.findById(id);
+        }
+        return clientCache.getOrLoad(id, clientRepository::findById);
+    }
+
+    private void invalidate(long id) {
+        clientCache.invalidate(id);
+        loginCache.clear();
+        UnitOfWork.afterCompletion(() -> {
+            clientCache.invalidate(id);
+            loginCache.clear();
+        });
+        RealEstateServiceImpl.catalogChanged();
     }
 
     private void checkEmailAndPhoneNumber(Client client) throws EmailAlreadyExistsException, PhoneNumberAlreadyExistsException {
@@ -1,12 +1,15 @@
 package com.solvd.service.impl;
 
 import com.solvd.domain.Employee;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EmailAlreadyExistsException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.domain.exceptions.PhoneNumberAlreadyExistsException;
 import com.solvd.persistence.EmployeeRepository;
+import com.solvd.persistence.UnitOfWork;
 import com.solvd.persistence.impl.EmployeeRepositoryMybatisImpl;
+import com.solvd.persistence.metrics.Instrumentation;
 import com.solvd.service.EmployeeService;
 import com.solvd.service.PersonService;
 import com.solvd.service.validators.Validator;
@@ -26,15 +29,18 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final EmployeeRepository employeeRepository;
 
     public EmployeeServiceImpl() {
-        this.employeeRepository = new EmployeeRepositoryMybatisImpl();
+        this.employeeRepository = Instrumentation.repository(EmployeeRepository.class, new EmployeeRepositoryMybatisImpl());
     }
 
     @Override
     public void create(Employee employee) throws EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException {
         validate(employee);
-        checkEmailAndPhoneNumber(employee);
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            checkEmailAndPhoneNumber(employee);
 
-        employeeRepository.create(employee);
+            employeeRepository.create(employee);
+            unitOfWork.commit();
+        }
     }
 
     @Override
@@ -43,13 +49,19 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
-    public void update(Employee employee) throws EmailAlreadyExistsException, EntityNotFoundException, PhoneNumberAlreadyExistsException, FieldValidationException {
-        if (employeeRepository.findById(employee.getId()).isEmpty()) {
-            throw new EntityNotFoundException("Employee", employee.getId());
-        }
+    public void update(Employee employee) throws EmailAlreadyExistsException, EntityNotFoundException, PhoneNumberAlreadyExistsException, FieldValidationException, ConcurrentUpdateException {
         validate(employee);
-        checkEmailAndPhoneNumber(employee);
-        employeeRepository.update(employee);
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            checkEmailAndPhoneNumber(employee);
+            if (!employeeRepository.update(employee)) {
+                if (!employeeRepository.existsById(employee.getId())) {
+                    throw new EntityNotFoundException("Employee", employee.getId());
+                }
+                throw new ConcurrentUpdateException("Employee", employee.getId());
+            }
+            unitOfWork.commit();
+        }
+        employee.setVersion(employee.getVersion() + 1);
     }
 
     @Override
@@ -65,7 +77,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     public boolean existsById(long id) {
-        return employeeRepository.findById(id).isPresent();
+        return employeeRepository.existsById(id);
     }
 
     private void validate(Employee employee) throws FieldValidationException {
@@ -1,12 +1,16 @@
 package com.solvd.service.impl;
 
 import com.solvd.domain.Client;
+import com.solvd.domain.Employee;
 import com.solvd.domain.Meeting;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.persistence.MeetingRepository;
+import com.solvd.persistence.UnitOfWork;
 import com.solvd.persistence.impl.MeetingRepositoryMybatisImpl;
+import com.solvd.persistence.metrics.Instrumentation;
 import com.solvd.service.ClientService;
 import com.solvd.service.EmployeeService;
 import com.solvd.service.MeetingService;
@@ -23,7 +27,6 @@ import lombok.AllArgsConstructor;
 
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @AllArgsConstructor
 public class MeetingServiceImpl implements MeetingService {
@@ -34,23 +37,26 @@ public class MeetingServiceImpl implements MeetingService {
     private final EmployeeService employeeService;
 
     public MeetingServiceImpl() {
-        this.meetingRepository = new MeetingRepositoryMybatisImpl();
-        this.realEstateService = new RealEstateServiceImpl();
-        this.clientService = new ClientServiceImpl();
-        this.employeeService = new EmployeeServiceImpl();
+        this.meetingRepository = Instrumentation.repository(MeetingRepository.class, new MeetingRepositoryMybatisImpl());
+        this.realEstateService = Instrumentation.service(RealEstateService.class, new RealEstateServiceImpl());
+        this.clientService = Instrumentation.service(ClientService.class, new ClientServiceImpl());
+        this.employeeService = Instrumentation.service(EmployeeService.class, new EmployeeServiceImpl());
     }
 
     @Override
     public void create(Meeting meeting, Long realEstateId, Long buyerId, Long employeeId) throws EntityNotFoundException, FieldValidationException {
         validate(meeting);
-        checkRealEstate(realEstateId);
-        checkBuyer(buyerId);
-        checkEmployee(employeeId);
-
-        if (meeting.getBuyer().equals(realEstateService.getAvailableById(realEstateId).getSeller())) {
-            throw new FieldValidationException(" You cannot set up meeting on your real estate");
-        } else {
-            meetingRepository.create(meeting, realEstateId, buyerId, employeeId);
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            RealEstate realEstate = realEstateService.getAvailableById(realEstateId);
+            checkBuyer(buyerId);
+            checkEmployee(employeeId);
+
+            if (meeting.getBuyer().equals(realEstate.getSeller())) {
+                throw new FieldValidationException(" You cannot set up meeting on your real estate");
+            } else {
+                meetingRepository.create(meeting, realEstateId, buyerId, employeeId);
+            }
+            unitOfWork.commit();
         }
     }
 
@@ -60,12 +66,20 @@ public class MeetingServiceImpl implements MeetingService {
     }
 
     @Override
-    public void update(Meeting meeting, Long realEstateId, Long buyerId, Long employeeId) throws EntityNotFoundException, FieldValidationException {
-        if (meetingRepository.findById(meeting.getId()).isEmpty()) {
-            throw new EntityNotFoundException("Meeting", meeting.getId());
-        }
+    public int deleteByRealEstateId(long realEstateId) {
+        return meetingRepository.deleteByRealEstateId(realEstateId);
+    }
+
+    @Override
+    public void update(Meeting meeting, Long realEstateId, Long buyerId, Long employeeId) throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException {
         validate(meeting);
-        meetingRepository.update(meeting, realEstateId, buyerId, employeeId);
+        if (!meetingRepository.update(meeting, realEstateId, buyerId, employeeId)) {
+            if (!meetingRepository.existsById(meeting.getId())) {
+                throw new EntityNotFoundException("Meeting", meeting.getId());
+            }
+            throw new ConcurrentUpdateException("Meeting", meeting.getId());
+        }
+        meeting.setVersion(meeting.getVersion() + 1);
     }
 
     @Override
@@ -76,16 +90,17 @@ public class MeetingServiceImpl implements MeetingService {
 
     @Override
     public List<Meeting> getByClient(Client client) {
-        return meetingRepository.findAll().stream()
-                .filter(meeting -> meeting.getBuyer().getId() == client.getId())
-                .collect(Collectors.toList());
+        return meetingRepository.findAllByBuyerId(client.getId());
     }
 
     @Override
     public List<Meeting> getByRealEstate(RealEstate realEstate) {
-        return meetingRepository.findAll().stream()
-                .filter(meeting -> meeting.getRealEstate().getId() == realEstate.getId())
-                .collect(Collectors.toList());
+        return meetingRepository.findAllByRealEstateId(realEstate.getId());
+    }
+
+    @Override
+    public List<Meeting> getByEmployee(Employee employee) {
+        return meetingRepository.findAllByEmployeeId(employee.getId());
     }
 
     @Override
@@ -109,12 +124,6 @@ public class MeetingServiceImpl implements MeetingService {
     }
 
 
-    private void checkRealEstate(Long realEstateId) throws EntityNotFoundException {
-        if (!realEstateService.existsAvailableById(realEstateId)) {
-            throw new EntityNotFoundException("Real estate", realEstateId);
-        }
-    }
-
     private void checkBuyer(Long buyerId) throws EntityNotFoundException {
         if (!clientService.existsById(buyerId)) {
             throw new EntityNotFoundException("Buyer", buyerId);
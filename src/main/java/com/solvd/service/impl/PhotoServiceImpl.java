@@ -5,6 +5,7 @@ import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.domain.exceptions.LinkAlreadyExistsException;
 import com.solvd.persistence.PhotoRepository;
 import com.solvd.persistence.impl.PhotoRepositoryMybatisImpl;
+import com.solvd.persistence.metrics.Instrumentation;
 import com.solvd.service.PhotoService;
 import com.solvd.service.validators.Validator;
 import com.solvd.service.validators.object.NotNullObjectValidator;
@@ -14,13 +15,14 @@ import com.solvd.service.validators.string.SizeStringValidator;
 import lombok.AllArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @AllArgsConstructor
 public class PhotoServiceImpl implements PhotoService {
     private final PhotoRepository photoRepository;
 
     public PhotoServiceImpl() {
-        this.photoRepository = new PhotoRepositoryMybatisImpl();
+        this.photoRepository = Instrumentation.repository(PhotoRepository.class, new PhotoRepositoryMybatisImpl());
     }
 
     @Override
@@ -30,6 +32,18 @@ public class PhotoServiceImpl implements PhotoService {
             throw new LinkAlreadyExistsException(String.format("This link is already exists: %s", photo.getLink()));
         }
         photoRepository.create(photo, realEstateId);
+        RealEstateServiceImpl.listingChanged(realEstateId);
+    }
+
+    @Override
+    public void createAll(Map<Long, List<Photo>> photosByRealEstateId) throws FieldValidationException {
+        for (List<Photo> photos : photosByRealEstateId.values()) {
+            for (Photo photo : photos) {
+                validate(photo);
+            }
+        }
+        photoRepository.createAll(photosByRealEstateId);
+        photosByRealEstateId.keySet().forEach(RealEstateServiceImpl::listingChanged);
     }
 
     private void validate(Photo photo) throws FieldValidationException {
@@ -43,11 +57,13 @@ public class PhotoServiceImpl implements PhotoService {
     @Override
     public void deleteByLink(String link) {
         photoRepository.deleteByLink(link);
+        RealEstateServiceImpl.catalogChanged();
     }
 
     @Override
     public void deleteByRealEstateId(long realEstateId) {
         photoRepository.deleteByRealEstateId(realEstateId);
+        RealEstateServiceImpl.listingChanged(realEstateId);
     }
 
     @Override
@@ -2,16 +2,31 @@ package com.solvd.service.impl;
 
 import com.solvd.domain.Client;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.RealEstateFilter;
 import com.solvd.domain.enums.RealEstateType;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.persistence.FetchMode;
 import com.solvd.persistence.RealEstateRepository;
+import com.solvd.persistence.SingleFlightStats;
+import com.solvd.persistence.UnitOfWork;
+import com.solvd.persistence.impl.CoalescingRealEstateRepository;
 import com.solvd.persistence.impl.RealEstateRepositoryMybatisImpl;
+import com.solvd.persistence.metrics.Instrumentation;
 import com.solvd.service.AddressService;
+import com.solvd.service.PhotoService;
 import com.solvd.service.RealEstateService;
+import com.solvd.service.TagService;
+import com.solvd.service.cache.CacheStats;
+import com.solvd.service.cache.LruCache;
+import com.solvd.service.cache.ResultCacheStats;
+import com.solvd.service.cache.VersionedResultCache;
 import com.solvd.service.validators.Validator;
 import com.solvd.service.validators.bigint.MaxLongValidator;
 import com.solvd.service.validators.bigint.MinLongValidator;
+import com.solvd.service.validators.bigint.NotNegativeLongValidator;
+import com.solvd.service.validators.integer.MaxIntegerValidator;
 import com.solvd.service.validators.integer.MinIntegerValidator;
 import com.solvd.service.validators.integer.NotNegativeIntegerValidator;
 import com.solvd.service.validators.object.NotNullObjectValidator;
@@ -19,85 +34,244 @@ import com.solvd.service.validators.string.NotEmptyStringValidator;
 import com.solvd.service.validators.string.NotNullStringValidator;
 import com.solvd.service.validators.string.SizeStringValidator;
 import lombok.AllArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @AllArgsConstructor
 public class RealEstateServiceImpl implements RealEstateService {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int LISTING_CACHE_SIZE = 1000;
+    private static final Duration LISTING_CACHE_TTL = Duration.ofSeconds(30);
+    private static final int RESULT_CACHE_SIZE = 64;
+    private static final Duration RESULT_CACHE_MAX_AGE = Duration.ofSeconds(30);
+    private static final LruCache<Long, RealEstate> LISTING_CACHE = new LruCache<>(LISTING_CACHE_SIZE, LISTING_CACHE_TTL, RealEstate::copy);
+    private static final VersionedResultCache<List<Object>, List<RealEstate>> RESULT_CACHE =
+            new VersionedResultCache<>(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "catalog-cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            }), RESULT_CACHE_SIZE, RESULT_CACHE_MAX_AGE, RealEstateServiceImpl::copyAll);
+    private static final CoalescingRealEstateRepository REAL_ESTATE_REPOSITORY = new CoalescingRealEstateRepository(
+            Instrumentation.repository(RealEstateRepository.class, new RealEstateRepositoryMybatisImpl()), RESULT_CACHE::getVersion);
+
     private final RealEstateRepository realEstateRepository;
     private final AddressService addressService;
+    private final PhotoService photoService;
+    private final TagService tagService;
+    private final LruCache<Long, RealEstate> listingCache;
+    private final VersionedResultCache<List<Object>, List<RealEstate>> resultCache;
 
     public RealEstateServiceImpl() {
-        this.realEstateRepository = new RealEstateRepositoryMybatisImpl();
-        this.addressService = new AddressServiceImpl();
+        this.realEstateRepository = REAL_ESTATE_REPOSITORY;
+        this.addressService = Instrumentation.service(AddressService.class, new AddressServiceImpl());
+        this.photoService = Instrumentation.service(PhotoService.class, new PhotoServiceImpl());
+        this.tagService = Instrumentation.service(TagService.class, new TagServiceImpl());
+        this.listingCache = LISTING_CACHE;
+        this.resultCache = RESULT_CACHE;
     }
 
     @Override
     public void create(RealEstate realEstate, long clientId) throws FieldValidationException {
         validate(realEstate);
-        addressService.create(realEstate.getAddress());
-        realEstateRepository.create(realEstate, clientId);
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            addressService.create(realEstate.getAddress());
+            realEstateRepository.create(realEstate, clientId);
+            invalidateResults();
+            unitOfWork.commit();
+        }
+    }
+
+    @Override
+    public void createAll(List<RealEstate> realEstates) throws FieldValidationException {
+        Validator<Object> objectValidator = new NotNullObjectValidator();
+        for (RealEstate realEstate : realEstates) {
+            validate(realEstate);
+            objectValidator.validate("seller", realEstate.getSeller());
+        }
+        try (UnitOfWork unitOfWork = UnitOfWork.beginBatch()) {
+            addressService.createAll(realEstates.stream()
+                    .map(RealEstate::getAddress)
+                    .collect(Collectors.toList()));
+            realEstateRepository.createAll(realEstates);
+            invalidateResults();
+            photoService.createAll(realEstates.stream()
+                    .collect(Collectors.toMap(RealEstate::getId, RealEstate::getPhotos)));
+            tagService.assignAllToRealEstates(realEstates.stream()
+                    .collect(Collectors.toMap(RealEstate::getId, RealEstate::getTags)));
+            unitOfWork.commit();
+        }
     }
 
     @Override
     public void deleteById(long realEstateId) {
         realEstateRepository.deleteById(realEstateId);
+        invalidate(realEstateId);
     }
 
     @Override
-    public void update(RealEstate realEstate) throws EntityNotFoundException, FieldValidationException {
-        if (realEstateRepository.findById(realEstate.getId()).isEmpty()) {
-            throw new EntityNotFoundException("Real Estate", realEstate.getId());
-        }
+    public void update(RealEstate realEstate) throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException {
         validate(realEstate);
-        realEstateRepository.update(realEstate);
+        if (!realEstateRepository.update(realEstate)) {
+            if (!realEstateRepository.existsById(realEstate.getId())) {
+                throw new EntityNotFoundException("Real Estate", realEstate.getId());
+            }
+            throw new ConcurrentUpdateException("Real Estate", realEstate.getId());
+        }
+        invalidate(realEstate.getId());
+        realEstate.setVersion(realEstate.getVersion() + 1);
     }
 
     @Override
     public RealEstate getAvailableById(long realEstateId) throws EntityNotFoundException {
-        return realEstateRepository.findById(realEstateId)
+        return findById(realEstateId)
                 .filter(RealEstate::isAvailable)
                 .orElseThrow(() -> new EntityNotFoundException("RealEstate", realEstateId));
     }
 
     @Override
     public List<RealEstate> getAll() {
-        return realEstateRepository.findAll();
+        return realEstateRepository.findAll(FetchMode.BATCH);
+    }
+
+    @Override
+    public Cursor<RealEstate> streamAll() {
+        return realEstateRepository.streamAll();
     }
 
     @Override
     public List<RealEstate> getAllAvailable() {
-        return realEstateRepository.findAll().stream()
-                .filter(RealEstate::isAvailable)
-                .collect(Collectors.toList());
+        return cachedResult(List.of(RealEstateFilter.available()),
+                () -> realEstateRepository.findAllAvailable(FetchMode.BATCH));
     }
 
     @Override
     public List<RealEstate> getAllBySeller(Client seller) {
-        return realEstateRepository.findAll().stream()
-                .filter(realEstate -> realEstate.getSeller().getId() == seller.getId())
-                .collect(Collectors.toList());
+        return realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.BATCH);
     }
 
     @Override
     public List<RealEstate> getAllAvailableByType(RealEstateType realEstateType) {
-        return realEstateRepository.findAll().stream()
-                .filter(RealEstate::isAvailable)
-                .filter(realEstate -> realEstate.getRealEstateType() == realEstateType)
-                .collect(Collectors.toList());
+        return cachedResult(List.of(RealEstateFilter.availableByType(realEstateType)),
+                () -> realEstateRepository.findAllAvailableByType(realEstateType, FetchMode.BATCH));
+    }
+
+    @Override
+    public List<RealEstate> getPage(long afterId, int limit, RealEstateFilter filter) throws FieldValidationException {
+        new NotNullObjectValidator().validate("filter", filter);
+        new NotNegativeLongValidator().validate("last seen id", afterId);
+        Validator<Integer> limitValidator = new MaxIntegerValidator(MAX_PAGE_SIZE, new MinIntegerValidator(1));
+        limitValidator.validate("page size", limit);
+        if (afterId == 0) {
+            return cachedResult(List.of(filter, limit), () -> realEstateRepository.findPage(0, limit, filter));
+        }
+        return realEstateRepository.findPage(afterId, limit, filter);
     }
 
     @Override
     public boolean existsAvailableById(long id) {
-        return realEstateRepository.findById(id).filter(RealEstate::isAvailable).isPresent();
+        if (UnitOfWork.isActive()) {
+            return realEstateRepository.existsAvailableById(id);
+        }
+        return listingCache.get(id)
+                .map(RealEstate::isAvailable)
+                .orElseGet(() -> realEstateRepository.existsAvailableById(id));
     }
 
     @Override
     public void hideById(long id) throws EntityNotFoundException {
+        if (!realEstateRepository.hideById(id)) {
+            throw new EntityNotFoundException("RealEstate", id);
+        }
+        invalidate(id);
+    }
+
+    @Override
+    public void reserve(long id, long buyerId) throws EntityNotFoundException, FieldValidationException {
+        if (realEstateRepository.reserve(id, buyerId)) {
+            invalidate(id);
+            return;
+        }
         RealEstate realEstate = getAvailableById(id);
-        realEstate.setAvailable(false);
-        realEstateRepository.update(realEstate);
+        if (realEstate.getSeller().getId() == buyerId) {
+            throw new FieldValidationException("You cannot order your real estate");
+        }
+        throw new EntityNotFoundException("RealEstate", id);
+    }
+
+    @Override
+    public CacheStats getCacheStats() {
+        return listingCache.getStats();
+    }
+
+    @Override
+    public ResultCacheStats getResultCacheStats() {
+        return resultCache.getStats();
+    }
+
+    @Override
+    public SingleFlightStats getCoalescingStats() {
+        if (realEstateRepository instanceof CoalescingRealEstateRepository) {
+            return ((CoalescingRealEstateRepository) realEstateRepository).getStats();
+        }
+        return new SingleFlightStats(0, 0);
+    }
+
+    private Optional<RealEstate> findById(long id) {
+        if (UnitOfWork.isActive()) {
+            return realEstateRepository.findById(id);
+        }
+        return listingCache.getOrLoad(id, realEstateRepository::findById);
+    }
+
+    static void listingChanged(long realEstateId) {
+        LISTING_CACHE.invalidate(realEstateId);
+        RESULT_CACHE.bumpVersion();
+        UnitOfWork.afterCompletion(() -> {
+            LISTING_CACHE.invalidate(realEstateId);
+            RESULT_CACHE.bumpVersion();
+        });
+    }
+
+    static void catalogChanged() {
+        LISTING_CACHE.clear();
+        RESULT_CACHE.bumpVersion();
+        UnitOfWork.afterCompletion(() -> {
+            LISTING_CACHE.clear();
+            RESULT_CACHE.bumpVersion();
+        });
+    }
+
+    private static List<RealEstate> copyAll(List<RealEstate> realEstates) {
+        return realEstates.stream()
+                .map(RealEstate::copy)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private List<RealEstate> cachedResult(List<Object> key, Supplier<List<RealEstate>> query) {
+        if (UnitOfWork.isActive()) {
+            return query.get();
+        }
+        return resultCache.get(key, () -> List.copyOf(query.get()));
+    }
+
+    private void invalidate(long id) {
+        listingCache.invalidate(id);
+        resultCache.bumpVersion();
+        UnitOfWork.afterCompletion(() -> {
+            listingCache.invalidate(id);
+            resultCache.bumpVersion();
+        });
+    }
+
+    private void invalidateResults() {
+        resultCache.bumpVersion();
+        UnitOfWork.afterCompletion(resultCache::bumpVersion);
     }
 
     public void validate(RealEstate realEstate) throws FieldValidationException {
@@ -4,6 +4,7 @@ import com.solvd.domain.Tag;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.persistence.TagRepository;
 import com.solvd.persistence.impl.TagRepositoryMybatisImpl;
+import com.solvd.persistence.metrics.Instrumentation;
 import com.solvd.service.TagService;
 import com.solvd.service.validators.Validator;
 import com.solvd.service.validators.object.NotNullObjectValidator;
@@ -12,14 +13,19 @@ import com.solvd.service.validators.string.NotNullStringValidator;
 import com.solvd.service.validators.string.SizeStringValidator;
 import lombok.AllArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @AllArgsConstructor
 public class TagServiceImpl implements TagService {
     private final TagRepository tagRepository;
 
     public TagServiceImpl() {
-        this.tagRepository = new TagRepositoryMybatisImpl();
+        this.tagRepository = Instrumentation.repository(TagRepository.class, new TagRepositoryMybatisImpl());
     }
 
     @Override
@@ -29,11 +35,44 @@ public class TagServiceImpl implements TagService {
             tagRepository.create(tag);
         }
         tagRepository.assignToRealEstate(tag, realEstateId);
+        RealEstateServiceImpl.listingChanged(realEstateId);
+    }
+
+    @Override
+    public void assignAllToRealEstates(Map<Long, List<Tag>> tagsByRealEstateId) throws FieldValidationException {
+        Map<String, Tag> tagsByName = new LinkedHashMap<>();
+        Map<Long, List<Tag>> uniqueTagsByRealEstateId = new LinkedHashMap<>();
+        for (Map.Entry<Long, List<Tag>> entry : tagsByRealEstateId.entrySet()) {
+            Map<String, Tag> realEstateTags = new LinkedHashMap<>();
+            for (Tag tag : entry.getValue()) {
+                validate(tag);
+                realEstateTags.putIfAbsent(key(tag), tag);
+                tagsByName.putIfAbsent(key(tag), tag);
+            }
+            uniqueTagsByRealEstateId.put(entry.getKey(), new ArrayList<>(realEstateTags.values()));
+        }
+        if (tagsByName.isEmpty()) {
+            return;
+        }
+        List<String> names = tagsByName.values().stream()
+                .map(Tag::getName)
+                .collect(Collectors.toList());
+        for (Tag tag : tagRepository.findAllByNames(names)) {
+            tagsByName.remove(key(tag));
+        }
+        tagRepository.createAll(tagsByName.values());
+        tagRepository.assignAllToRealEstates(uniqueTagsByRealEstateId);
+        uniqueTagsByRealEstateId.keySet().forEach(RealEstateServiceImpl::listingChanged);
     }
 
     @Override
     public void allocateFromRealEstate(Tag tag, long realEstateId) {
         tagRepository.allocateFromRealEstate(tag, realEstateId);
+        RealEstateServiceImpl.listingChanged(realEstateId);
+    }
+
+    private static String key(Tag tag) {
+        return tag.getName().toLowerCase(Locale.ROOT);
     }
 
     private void validate(Tag tag) throws FieldValidationException {
@@ -47,6 +86,7 @@ public class TagServiceImpl implements TagService {
     @Override
     public void deleteByName(String name) {
         tagRepository.deleteByName(name);
+        RealEstateServiceImpl.catalogChanged();
     }
 
     @Override
@@ -0,0 +1,93 @@
+package com.solvd.service.imports;
+
+import com.solvd.domain.exceptions.MalformedRecordException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CsvRecordReader implements RecordReader {
+    private final BufferedReader reader;
+    private final List<String> header;
+    private long lineNumber;
+
+    public CsvRecordReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new IOException("CSV file has no header line");
+        }
+        this.lineNumber = 1;
+        try {
+            this.header = parseLine(headerLine);
+        } catch (MalformedRecordException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> next() throws IOException, MalformedRecordException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        List<String> values = parseLine(line);
+        if (values.size() != header.size()) {
+            throw new MalformedRecordException(String.format("Line %d has %d columns, expected %d", lineNumber, values.size(), header.size()));
+        }
+        Map<String, Object> record = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            record.put(header.get(i).trim(), values.get(i));
+        }
+        return record;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> parseLine(String line) throws MalformedRecordException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new MalformedRecordException(String.format("Line %d has an unterminated quoted value", lineNumber));
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
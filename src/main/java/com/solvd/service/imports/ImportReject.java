@@ -0,0 +1,16 @@
+package com.solvd.service.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ImportReject {
+    private long lineNumber;
+    private String message;
+
+    @Override
+    public String toString() {
+        return String.format("line %d: %s", lineNumber, message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.solvd.service.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ImportReport {
+    private long imported;
+    private long rejected;
+    private long elapsedNanos;
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : (imported + rejected) * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Imported %d, rejected %d in %.2f s (%.0f rows/sec)",
+                imported, rejected, elapsedNanos / 1_000_000_000.0, getRowsPerSecond());
+    }
+}
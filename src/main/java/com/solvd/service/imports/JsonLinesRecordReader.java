@@ -0,0 +1,182 @@
+package com.solvd.service.imports;
+
+import com.solvd.domain.exceptions.MalformedRecordException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JsonLinesRecordReader implements RecordReader {
+    private final BufferedReader reader;
+    private long lineNumber;
+    private String line;
+    private int position;
+
+    public JsonLinesRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Map<String, Object> next() throws IOException, MalformedRecordException {
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        position = 0;
+        Map<String, Object> record = new LinkedHashMap<>();
+        expect('{');
+        if (peek() == '}') {
+            position++;
+        } else {
+            do {
+                String key = readString();
+                expect(':');
+                record.put(key, readValue());
+            } while (consumeSeparator('}'));
+        }
+        if (peek() != 0) {
+            throw error("unexpected trailing content");
+        }
+        return record;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Object readValue() throws MalformedRecordException {
+        char c = peek();
+        if (c == '"') {
+            return readString();
+        }
+        if (c == '[') {
+            position++;
+            List<String> values = new ArrayList<>();
+            if (peek() == ']') {
+                position++;
+                return values;
+            }
+            do {
+                Object value = readValue();
+                if (value instanceof List) {
+                    throw error("nested arrays are not supported");
+                }
+                values.add(value == null ? null : value.toString());
+            } while (consumeSeparator(']'));
+            return values;
+        }
+        if (c == '{') {
+            throw error("nested objects are not supported");
+        }
+        int start = position;
+        while (position < line.length() && ",}] \t".indexOf(line.charAt(position)) < 0) {
+            position++;
+        }
+        String literal = line.substring(start, position);
+        if (literal.isEmpty()) {
+            throw error("value expected");
+        }
+        return "null".equals(literal) ? null : literal;
+    }
+
+    private String readString() throws MalformedRecordException {
+        expect('"');
+        StringBuilder value = new StringBuilder();
+        while (position < line.length()) {
+            char c = line.charAt(position++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (position >= line.length()) {
+                break;
+            }
+            char escaped = line.charAt(position++);
+            switch (escaped) {
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'u':
+                    value.append(readUnicodeEscape());
+                    break;
+                default:
+                    value.append(escaped);
+            }
+        }
+        throw error("unterminated string");
+    }
+
+    private char readUnicodeEscape() throws MalformedRecordException {
+        if (position + 4 > line.length()) {
+            throw error("invalid unicode escape");
+        }
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(line.charAt(position + i), 16);
+            if (digit < 0) {
+                throw error("invalid unicode escape");
+            }
+            code = code * 16 + digit;
+        }
+        position += 4;
+        return (char) code;
+    }
+
+    private boolean consumeSeparator(char end) throws MalformedRecordException {
+        char c = peek();
+        position++;
+        if (c == ',') {
+            return true;
+        }
+        if (c == end) {
+            return false;
+        }
+        throw error("',' or '" + end + "' expected");
+    }
+
+    private void expect(char expected) throws MalformedRecordException {
+        if (peek() != expected) {
+            throw error("'" + expected + "' expected");
+        }
+        position++;
+    }
+
+    private char peek() {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position < line.length() ? line.charAt(position) : 0;
+    }
+
+    private MalformedRecordException error(String message) {
+        return new MalformedRecordException(String.format("Line %d, column %d: %s", lineNumber, position + 1, message));
+    }
+}
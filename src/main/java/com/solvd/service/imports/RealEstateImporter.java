@@ -0,0 +1,203 @@
+package com.solvd.service.imports;
+
+import com.solvd.domain.Address;
+import com.solvd.domain.Client;
+import com.solvd.domain.Photo;
+import com.solvd.domain.RealEstate;
+import com.solvd.domain.Tag;
+import com.solvd.domain.enums.RealEstateType;
+import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.domain.exceptions.MalformedRecordException;
+import com.solvd.service.RealEstateService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor
+public class RealEstateImporter {
+    private static final String LIST_SEPARATOR = "|";
+
+    private final RealEstateService realEstateService;
+    private final int batchSize;
+    private final int workers;
+    private final Consumer<ImportReject> rejectListener;
+
+    public ImportReport importFrom(RecordReader reader) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        AtomicLong imported = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        Consumer<ImportReject> reject = importReject -> {
+            rejected.incrementAndGet();
+            rejectListener.accept(importReject);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        Semaphore inFlight = new Semaphore(workers * 2);
+        try {
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            while (true) {
+                Map<String, Object> record;
+                try {
+                    record = reader.next();
+                } catch (MalformedRecordException e) {
+                    reject.accept(new ImportReject(reader.getLineNumber(), e.getMessage()));
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                try {
+                    batch.add(new ImportRow(reader.getLineNumber(), toRealEstate(record)));
+                } catch (FieldValidationException e) {
+                    reject.accept(new ImportReject(reader.getLineNumber(), e.getMessage()));
+                }
+                if (batch.size() == batchSize) {
+                    submit(executor, inFlight, batch, imported, reject);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(executor, inFlight, batch, imported, reject);
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        return new ImportReport(imported.get(), rejected.get(), System.nanoTime() - start);
+    }
+
+    private void submit(ExecutorService executor, Semaphore inFlight, List<ImportRow> batch,
+                        AtomicLong imported, Consumer<ImportReject> reject) throws InterruptedException {
+        inFlight.acquire();
+        executor.execute(() -> {
+            try {
+                write(batch, imported, reject);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void write(List<ImportRow> batch, AtomicLong imported, Consumer<ImportReject> reject) {
+        try {
+            realEstateService.createAll(batch.stream()
+                    .map(ImportRow::getRealEstate)
+                    .collect(Collectors.toList()));
+            imported.addAndGet(batch.size());
+            return;
+        } catch (FieldValidationException | RuntimeException e) {
+            if (batch.size() == 1) {
+                reject.accept(new ImportReject(batch.get(0).getLineNumber(), rootMessage(e)));
+                return;
+            }
+        }
+        for (ImportRow row : batch) {
+            try {
+                realEstateService.createAll(List.of(row.getRealEstate()));
+                imported.incrementAndGet();
+            } catch (FieldValidationException | RuntimeException e) {
+                reject.accept(new ImportReject(row.getLineNumber(), rootMessage(e)));
+            }
+        }
+    }
+
+    private RealEstate toRealEstate(Map<String, Object> record) throws FieldValidationException {
+        Address address = new Address();
+        address.setCountry(text(record, "country"));
+        address.setRegion(text(record, "region"));
+        address.setCity(text(record, "city"));
+        address.setStreet(text(record, "street"));
+        address.setBuilding(text(record, "building"));
+        address.setApartment(text(record, "apartment"));
+
+        Client seller = new Client();
+        seller.setId(parse(record, "seller_id", Long::parseLong));
+
+        RealEstate realEstate = new RealEstate();
+        realEstate.setAddress(address);
+        realEstate.setSeller(seller);
+        realEstate.setPrice(parse(record, "price", BigDecimal::new));
+        realEstate.setDescription(text(record, "description"));
+        realEstate.setRealEstateType(parse(record, "type", value -> RealEstateType.valueOf(value.toUpperCase())));
+        realEstate.setMetrics(text(record, "metrics"));
+        realEstate.setRooms(parse(record, "rooms", Integer::parseInt));
+        String available = text(record, "available");
+        realEstate.setAvailable(available == null || available.isBlank() || Boolean.parseBoolean(available.trim()));
+        for (String link : list(record, "photos")) {
+            Photo photo = new Photo();
+            photo.setLink(link);
+            realEstate.addPhoto(photo);
+        }
+        for (String name : list(record, "tags")) {
+            Tag tag = new Tag();
+            tag.setName(name);
+            realEstate.addTag(tag);
+        }
+        return realEstate;
+    }
+
+    private String text(Map<String, Object> record, String field) throws FieldValidationException {
+        Object value = record.get(field);
+        if (value instanceof List) {
+            throw new FieldValidationException(String.format("%s must be a single value", field));
+        }
+        return (String) value;
+    }
+
+    private <T> T parse(Map<String, Object> record, String field, Function<String, T> parser) throws FieldValidationException {
+        String value = text(record, field);
+        if (value == null || value.isBlank()) {
+            throw new FieldValidationException(String.format("%s is required", field));
+        }
+        try {
+            return parser.apply(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new FieldValidationException(String.format("%s has invalid value '%s'", field, value), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> list(Map<String, Object> record, String field) {
+        Object value = record.get(field);
+        if (value instanceof List) {
+            return (List<String>) value;
+        }
+        if (value == null || value.toString().isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.toString().split(Pattern.quote(LIST_SEPARATOR)))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private String rootMessage(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class ImportRow {
+        private final long lineNumber;
+        private final RealEstate realEstate;
+    }
+}
@@ -0,0 +1,15 @@
+package com.solvd.service.imports;
+
+import com.solvd.domain.exceptions.MalformedRecordException;
+
+import java.io.IOException;
+import java.util.Map;
+
+public interface RecordReader extends AutoCloseable {
+    Map<String, Object> next() throws IOException, MalformedRecordException;
+
+    long getLineNumber();
+
+    @Override
+    void close() throws IOException;
+}
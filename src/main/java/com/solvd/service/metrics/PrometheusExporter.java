@@ -0,0 +1,252 @@
+package com.solvd.service.metrics;
+
+import com.solvd.persistence.BoundedMapperCache;
+import com.solvd.persistence.Config;
+import com.solvd.persistence.SingleFlightStats;
+import com.solvd.persistence.metrics.StatementMetrics;
+import com.solvd.persistence.metrics.StatementMetricsInterceptor;
+import com.solvd.service.ClientService;
+import com.solvd.service.RealEstateService;
+import com.solvd.service.cache.CacheStats;
+import com.solvd.service.cache.ResultCacheStats;
+import com.solvd.service.impl.ClientServiceImpl;
+import com.solvd.service.impl.RealEstateServiceImpl;
+import lombok.AllArgsConstructor;
+import org.apache.ibatis.datasource.pooled.PoolState;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+
+import javax.sql.DataSource;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+public class PrometheusExporter {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final DataSource dataSource;
+    private final ClientService clientService;
+    private final RealEstateService realEstateService;
+
+    public PrometheusExporter() {
+        this.dataSource = Config.getSessionFactory().getConfiguration().getEnvironment().getDataSource();
+        this.clientService = new ClientServiceImpl();
+        this.realEstateService = new RealEstateServiceImpl();
+    }
+
+    public String scrape() {
+        Families families = new Families();
+        writePool(families);
+        writeStatements(families);
+        writeCaches(families);
+        writeJvm(families);
+        return families.toString();
+    }
+
+    private void writePool(Families families) {
+        if (!(dataSource instanceof PooledDataSource)) {
+            return;
+        }
+        PooledDataSource pooledDataSource = (PooledDataSource) dataSource;
+        PoolState state = pooledDataSource.getPoolState();
+        families.gauge("db_pool_active_connections", "Connections currently checked out of the pool")
+                .add(state.getActiveConnectionCount());
+        families.gauge("db_pool_idle_connections", "Idle connections kept in the pool")
+                .add(state.getIdleConnectionCount());
+        families.gauge("db_pool_max_active_connections", "Maximum number of connections the pool hands out")
+                .add(pooledDataSource.getPoolMaximumActiveConnections());
+        families.counter("db_pool_requests_total", "Connection requests served by the pool")
+                .add(state.getRequestCount());
+        families.counter("db_pool_waits_total", "Connection requests that had to wait for a free connection")
+                .add(state.getHadToWaitCount());
+        families.counter("db_pool_wait_seconds_total", "Time spent waiting for a free connection")
+                .add(state.getHadToWaitCount() * state.getAverageWaitTime() / 1_000.0);
+        families.counter("db_pool_overdue_connections_total", "Connections reclaimed after being held too long")
+                .add(state.getClaimedOverdueConnectionCount());
+        families.counter("db_pool_bad_connections_total", "Connections discarded as invalid")
+                .add(state.getBadConnectionCount());
+    }
+
+    private void writeStatements(Families families) {
+        Family duration = families.summary("mybatis_statement_duration_seconds", "Mapped statement latency");
+        Family maxDuration = families.gauge("mybatis_statement_max_duration_seconds", "Slowest mapped statement execution");
+        Family rows = families.counter("mybatis_statement_rows_total", "Rows returned or affected by mapped statements");
+        Family errors = families.counter("mybatis_statement_errors_total", "Mapped statement executions that failed");
+        for (StatementMetrics metrics : StatementMetricsInterceptor.getAll()) {
+            String statement = metrics.getStatementId();
+            duration.add(metrics.getP50Millis() / 1_000, "statement", statement, "quantile", "0.5");
+            duration.add(metrics.getP95Millis() / 1_000, "statement", statement, "quantile", "0.95");
+            duration.add(metrics.getP99Millis() / 1_000, "statement", statement, "quantile", "0.99");
+            duration.addSuffixed("_sum", metrics.getTotalMillis() / 1_000, "statement", statement);
+            duration.addSuffixed("_count", metrics.getCalls(), "statement", statement);
+            maxDuration.add(metrics.getMaxMillis() / 1_000, "statement", statement);
+            rows.add(metrics.getRows(), "statement", statement);
+            errors.add(metrics.getErrors(), "statement", statement);
+        }
+    }
+
+    private void writeCaches(Families families) {
+        Family hits = families.counter("cache_hits_total", "Cache lookups that found a value");
+        Family misses = families.counter("cache_misses_total", "Cache lookups that missed");
+        Family hitRatio = families.gauge("cache_hit_ratio", "Share of cache lookups that found a value");
+        Family evictions = families.counter("cache_evictions_total", "Entries evicted from the cache");
+        Family size = families.gauge("cache_size", "Entries currently held in the cache");
+
+        writeCache("client", clientService.getCacheStats(), hits, misses, hitRatio, evictions, size);
+        writeCache("listing", realEstateService.getCacheStats(), hits, misses, hitRatio, evictions, size);
+
+        ResultCacheStats results = realEstateService.getResultCacheStats();
+        long resultHits = results.getHits() + results.getStaleHits();
+        hits.add(resultHits, "cache", "listing_results");
+        misses.add(results.getMisses(), "cache", "listing_results");
+        hitRatio.add(ratio(resultHits, results.getMisses()), "cache", "listing_results");
+        families.counter("cache_stale_hits_total", "Cache lookups served from a stale value while it refreshes")
+                .add(results.getStaleHits(), "cache", "listing_results");
+        families.counter("cache_refreshes_total", "Background refreshes of stale cache values")
+                .add(results.getRefreshes(), "cache", "listing_results");
+
+        for (BoundedMapperCache mapperCache : BoundedMapperCache.getAll()) {
+            String name = "mapper:" + mapperCache.getId();
+            hits.add(mapperCache.getHits(), "cache", name);
+            misses.add(mapperCache.getMisses(), "cache", name);
+            hitRatio.add(mapperCache.getHitRate(), "cache", name);
+            size.add(mapperCache.getSize(), "cache", name);
+        }
+
+        SingleFlightStats coalescing = realEstateService.getCoalescingStats();
+        families.counter("query_coalescing_executed_total", "Listing queries sent to the database")
+                .add(coalescing.getExecuted());
+        families.counter("query_coalescing_coalesced_total", "Listing queries served by joining an identical in-flight query")
+                .add(coalescing.getCoalesced());
+    }
+
+    private void writeCache(String name, CacheStats stats, Family hits, Family misses, Family hitRatio, Family evictions, Family size) {
+        hits.add(stats.getHits(), "cache", name);
+        misses.add(stats.getMisses(), "cache", name);
+        hitRatio.add(stats.getHitRate(), "cache", name);
+        evictions.add(stats.getEvictions(), "cache", name);
+        size.add(stats.getSize(), "cache", name);
+    }
+
+    private void writeJvm(Families families) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        families.gauge("jvm_memory_used_bytes", "Used JVM memory")
+                .add(heap.getUsed(), "area", "heap")
+                .add(nonHeap.getUsed(), "area", "nonheap");
+        families.gauge("jvm_memory_committed_bytes", "Committed JVM memory")
+                .add(heap.getCommitted(), "area", "heap")
+                .add(nonHeap.getCommitted(), "area", "nonheap");
+        families.gauge("jvm_memory_max_bytes", "Maximum JVM memory, -1 when undefined")
+                .add(heap.getMax(), "area", "heap")
+                .add(nonHeap.getMax(), "area", "nonheap");
+        Family poolUsed = families.gauge("jvm_memory_pool_used_bytes", "Used memory per JVM memory pool");
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            poolUsed.add(pool.getUsage().getUsed(), "pool", pool.getName());
+        }
+        Family collections = families.counter("jvm_gc_collections_total", "Garbage collections");
+        Family collectionTime = families.counter("jvm_gc_collection_seconds_total", "Time spent in garbage collection");
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections.add(Math.max(0, collector.getCollectionCount()), "gc", collector.getName());
+            collectionTime.add(Math.max(0, collector.getCollectionTime()) / 1_000.0, "gc", collector.getName());
+        }
+        families.gauge("jvm_threads_current", "Live JVM threads")
+                .add(ManagementFactory.getThreadMXBean().getThreadCount());
+        families.gauge("process_uptime_seconds", "Time since the JVM started")
+                .add(ManagementFactory.getRuntimeMXBean().getUptime() / 1_000.0);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    private static class Families {
+        private final Map<String, Family> families = new LinkedHashMap<>();
+
+        private Family counter(String name, String help) {
+            return family(name, "counter", help);
+        }
+
+        private Family gauge(String name, String help) {
+            return family(name, "gauge", help);
+        }
+
+        private Family summary(String name, String help) {
+            return family(name, "summary", help);
+        }
+
+        private Family family(String name, String type, String help) {
+            return families.computeIfAbsent(name, key -> new Family(name, type, help));
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            for (Family family : families.values()) {
+                family.writeTo(text);
+            }
+            return text.toString();
+        }
+    }
+
+    private static class Family {
+        private final String name;
+        private final String type;
+        private final String help;
+        private final List<String> samples = new ArrayList<>();
+
+        private Family(String name, String type, String help) {
+            this.name = name;
+            this.type = type;
+            this.help = help;
+        }
+
+        private Family add(double value, String... labels) {
+            return addSuffixed("", value, labels);
+        }
+
+        private Family addSuffixed(String suffix, double value, String... labels) {
+            StringBuilder sample = new StringBuilder(name).append(suffix);
+            if (labels.length > 0) {
+                sample.append('{');
+                for (int i = 0; i < labels.length; i += 2) {
+                    if (i > 0) {
+                        sample.append(',');
+                    }
+                    sample.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+                }
+                sample.append('}');
+            }
+            samples.add(sample.append(' ').append(format(value)).toString());
+            return this;
+        }
+
+        private void writeTo(StringBuilder text) {
+            if (samples.isEmpty()) {
+                return;
+            }
+            text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            for (String sample : samples) {
+                text.append(sample).append('\n');
+            }
+        }
+
+        private static String format(double value) {
+            if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+                return Long.toString((long) value);
+            }
+            return Double.toString(value);
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+    }
+}
@@ -1,13 +1,3 @@
-DROP TABLE IF EXISTS meetings;
-DROP TABLE IF EXISTS employees;
-DROP TABLE IF EXISTS agreements;
-DROP TABLE IF EXISTS photo_links;
-DROP TABLE IF EXISTS real_estate_has_tags;
-DROP TABLE IF EXISTS tags;
-DROP TABLE IF EXISTS real_estates;
-DROP TABLE IF EXISTS addresses;
-DROP TABLE IF EXISTS clients;
-
 CREATE TABLE IF NOT EXISTS clients (
 	id SERIAL PRIMARY KEY,
     first_name VARCHAR(50) NOT NULL,
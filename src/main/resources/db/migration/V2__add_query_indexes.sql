@@ -0,0 +1,5 @@
+CREATE INDEX idx_real_estates_available_type ON real_estates (is_available, real_estate_type, id);
+
+CREATE INDEX idx_real_estate_has_tags_real_estate_tag ON real_estate_has_tags (real_estate_id, tag_name);
+
+CREATE INDEX idx_photo_links_real_estate_link ON photo_links (real_estate_id, link);
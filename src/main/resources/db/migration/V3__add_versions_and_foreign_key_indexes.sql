@@ -0,0 +1,21 @@
+ALTER TABLE clients ADD COLUMN version BIGINT UNSIGNED NOT NULL DEFAULT 0;
+
+ALTER TABLE addresses ADD COLUMN version BIGINT UNSIGNED NOT NULL DEFAULT 0;
+
+ALTER TABLE real_estates ADD COLUMN version BIGINT UNSIGNED NOT NULL DEFAULT 0;
+
+ALTER TABLE agreements ADD COLUMN version BIGINT UNSIGNED NOT NULL DEFAULT 0;
+
+ALTER TABLE employees ADD COLUMN version BIGINT UNSIGNED NOT NULL DEFAULT 0;
+
+ALTER TABLE meetings ADD COLUMN version BIGINT UNSIGNED NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_agreements_client_id ON agreements (client_id);
+
+CREATE INDEX idx_agreements_real_estate_id ON agreements (real_estate_id);
+
+CREATE INDEX idx_meetings_buyer_id ON meetings (buyer_id);
+
+CREATE INDEX idx_meetings_real_estate_id ON meetings (real_estate_id);
+
+CREATE INDEX idx_meetings_employee_id ON meetings (employee_id);
@@ -1,8 +1,10 @@
 package com.solvd;
 
 import com.solvd.domain.Address;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.persistence.UnitOfWork;
 import com.solvd.service.AddressService;
 import com.solvd.service.impl.AddressServiceImpl;
 import org.apache.logging.log4j.LogManager;
@@ -78,7 +80,7 @@ public class AddressTest {
     }
 
     @Test
-    public void updateAddressTest() throws EntityNotFoundException, FieldValidationException {
+    public void updateAddressTest() throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException {
         Address address = new Address();
         address.setCountry("Ukraine");
         address.setRegion("central region");
@@ -115,4 +117,73 @@ public class AddressTest {
             LOGGER.error(e.getMessage());
         }
     }
+
+    @Test
+    public void unitOfWorkRollbackTest() throws FieldValidationException {
+        Address address = new Address();
+        address.setCountry("Ukraine");
+        address.setRegion("central region");
+        address.setCity("Kyiv");
+        address.setStreet("Rollback street");
+        address.setBuilding("1");
+        address.setApartment("1");
+
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        try {
+            addressService.create(address);
+            Assertions.assertDoesNotThrow(() -> addressService.getById(address.getId()));
+        } finally {
+            unitOfWork.close();
+        }
+
+        Assertions.assertThrows(EntityNotFoundException.class, () -> addressService.getById(address.getId()));
+    }
+
+    @Test
+    public void unitOfWorkCommitTest() throws FieldValidationException, EntityNotFoundException, ConcurrentUpdateException {
+        Address address = new Address();
+        address.setCountry("Ukraine");
+        address.setRegion("central region");
+        address.setCity("Kyiv");
+        address.setStreet("Commit street");
+        address.setBuilding("1");
+        address.setApartment("1");
+
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            addressService.create(address);
+            address.setStreet("Updated commit street");
+            addressService.update(address);
+            unitOfWork.commit();
+        }
+
+        Assertions.assertEquals("Updated commit street", addressService.getById(address.getId()).getStreet());
+        addressService.deleteById(address.getId());
+    }
+
+    @Test
+    public void concurrentUpdateTest() throws FieldValidationException, EntityNotFoundException, ConcurrentUpdateException {
+        Address address = new Address();
+        address.setCountry("Ukraine");
+        address.setRegion("central region");
+        address.setCity("Kyiv");
+        address.setStreet("Version street");
+        address.setBuilding("1");
+        address.setApartment("1");
+        addressService.create(address);
+
+        Address first = addressService.getById(address.getId());
+        Address second = addressService.getById(address.getId());
+        first.setApartment("2");
+        addressService.update(first);
+        second.setApartment("3");
+        Assertions.assertThrows(ConcurrentUpdateException.class, () -> addressService.update(second));
+        Assertions.assertEquals("2", addressService.getById(address.getId()).getApartment());
+
+        first.setApartment("4");
+        addressService.update(first);
+        Assertions.assertEquals("4", addressService.getById(address.getId()).getApartment());
+
+        addressService.deleteById(address.getId());
+        Assertions.assertThrows(EntityNotFoundException.class, () -> addressService.update(first));
+    }
 }
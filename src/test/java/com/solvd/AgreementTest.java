@@ -1,18 +1,30 @@
 package com.solvd;
 
+import com.solvd.domain.Address;
 import com.solvd.domain.Agreement;
 import com.solvd.domain.Client;
+import com.solvd.domain.Meeting;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.enums.RealEstateType;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
+import com.solvd.domain.exceptions.EmailAlreadyExistsException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.domain.exceptions.PhoneNumberAlreadyExistsException;
 import com.solvd.persistence.AgreementRepository;
+import com.solvd.persistence.MeetingRepository;
 import com.solvd.persistence.RealEstateRepository;
 import com.solvd.persistence.impl.AgreementRepositoryMyBatisImpl;
+import com.solvd.persistence.impl.MeetingRepositoryMybatisImpl;
 import com.solvd.persistence.impl.RealEstateRepositoryMybatisImpl;
+import com.solvd.service.AddressService;
 import com.solvd.service.AgreementService;
+import com.solvd.service.ClientService;
 import com.solvd.service.RealEstateService;
+import com.solvd.service.impl.AddressServiceImpl;
 import com.solvd.service.impl.AgreementServiceImpl;
 import com.solvd.service.impl.ClientServiceImpl;
+import com.solvd.service.impl.MeetingServiceImpl;
 import com.solvd.service.impl.RealEstateServiceImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -20,16 +32,29 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class AgreementTest {
     private static final Logger LOGGER = LogManager.getLogger(AgreementTest.class);
 
+    private static final int RESERVATION_THREADS = 16;
+    private static final int SETTLED_MEETINGS = 10;
+
     private final AgreementRepository agreementRepository = new AgreementRepositoryMyBatisImpl();
     private final RealEstateRepository realEstateRepository = new RealEstateRepositoryMybatisImpl();
     private final AgreementService agreementService = new AgreementServiceImpl
-            (agreementRepository, new RealEstateServiceImpl(), new ClientServiceImpl());
+            (agreementRepository, new RealEstateServiceImpl(), new ClientServiceImpl(), new MeetingServiceImpl());
     private final RealEstateService realEstateService = new RealEstateServiceImpl();
+    private final MeetingRepository meetingRepository = new MeetingRepositoryMybatisImpl();
+    private final ClientService clientService = new ClientServiceImpl();
+    private final AddressService addressService = new AddressServiceImpl();
 
     @Test
     public void createAgreementTest() throws FieldValidationException, EntityNotFoundException {
@@ -55,7 +80,7 @@ public class AgreementTest {
     }
 
     @Test
-    public void updateAgreementTest() throws FieldValidationException, EntityNotFoundException {
+    public void updateAgreementTest() throws FieldValidationException, EntityNotFoundException, ConcurrentUpdateException {
         Agreement agreement = createSimpleAgreement();
         agreementService.create(agreement, 1, 2);
         agreement.setDuration("24 months");
@@ -81,9 +106,148 @@ public class AgreementTest {
         setRealEstateAvailable();
     }
 
+    @Test
+    public void findAllAgreementsQueryCountTest() {
+        QueryCounter.reset();
+        List<Agreement> agreements = agreementRepository.findAll();
+
+        Assertions.assertFalse(agreements.isEmpty());
+        Assertions.assertEquals(1, QueryCounter.count());
+        for (Agreement agreement : agreements) {
+            Assertions.assertNotNull(agreement.getRealEstate().getAddress());
+            Assertions.assertNotNull(agreement.getClient().getEmail());
+        }
+    }
+
+    @Test
+    public void concurrentReservationTest() throws InterruptedException, ExecutionException {
+        long agreementsBefore = countAgreementsForRealEstate(1L);
+        ExecutorService executor = Executors.newFixedThreadPool(RESERVATION_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Agreement>> results = new ArrayList<>();
+        for (int i = 0; i < RESERVATION_THREADS; i++) {
+            long buyerId = i % 2 == 0 ? 2L : 3L;
+            results.add(executor.submit(() -> {
+                Agreement agreement = createSimpleAgreement();
+                start.await();
+                try {
+                    agreementService.create(agreement, 1, buyerId);
+                    return agreement;
+                } catch (EntityNotFoundException e) {
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+
+        List<Agreement> winners = new ArrayList<>();
+        for (Future<Agreement> result : results) {
+            Agreement agreement = result.get();
+            if (agreement != null) {
+                winners.add(agreement);
+            }
+        }
+        executor.shutdown();
+
+        try {
+            Assertions.assertEquals(1, winners.size());
+            Assertions.assertEquals(agreementsBefore + 1, countAgreementsForRealEstate(1L));
+            Assertions.assertFalse(realEstateService.existsAvailableById(1L));
+        } finally {
+            for (Agreement agreement : winners) {
+                agreementService.deleteById(agreement.getId());
+            }
+            setRealEstateAvailable();
+        }
+    }
+
+    @Test
+    public void reserveOwnRealEstateTest() {
+        Agreement agreement = createSimpleAgreement();
+
+        Assertions.assertThrows(FieldValidationException.class, () -> agreementService.create(agreement, 1, 1));
+        Assertions.assertTrue(realEstateService.existsAvailableById(1L));
+    }
+
+    @Test
+    public void settleTest() throws FieldValidationException, EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException {
+        Client seller = Client.builder()
+                .setFirstName("Settle")
+                .setLastName("Seller")
+                .setEmail("settle.seller@example.com")
+                .setPhoneNumber("+380991114455")
+                .setRegistrationDate(new Date())
+                .build();
+        clientService.create(seller);
+        Address address = new Address();
+        address.setCountry("Ukraine");
+        address.setRegion("southern region");
+        address.setCity("Odesa");
+        address.setStreet("Settle street");
+        address.setBuilding("1");
+        address.setApartment("1");
+        RealEstate realEstate = new RealEstate();
+        realEstate.setPrice(BigDecimal.valueOf(90000));
+        realEstate.setAvailable(true);
+        realEstate.setDescription("Settled apartment");
+        realEstate.setRealEstateType(RealEstateType.APARTMENT);
+        realEstate.setMetrics("45");
+        realEstate.setRooms(2);
+        realEstate.setAddress(address);
+        realEstate.setSeller(seller);
+        realEstateService.create(realEstate, seller.getId());
+
+        try {
+            Agreement agreement = createSimpleAgreement();
+            agreementService.create(agreement, realEstate.getId(), 2);
+            agreement.setRealEstate(realEstate);
+            for (int i = 0; i < SETTLED_MEETINGS; i++) {
+                Meeting meeting = new Meeting();
+                meeting.setMeetingDateTime(new Date());
+                meeting.setInquiryDate(new Date());
+                meeting.setMeetingStatus("Scheduled");
+                meetingRepository.create(meeting, realEstate.getId(), 2L, 1L);
+            }
+
+            QueryCounter.reset();
+            agreementService.settle(agreement);
+            Assertions.assertEquals(2, QueryCounter.count());
+
+            Assertions.assertFalse(agreementRepository.existsById(agreement.getId()));
+            Assertions.assertTrue(meetingRepository.findAll().stream()
+                    .noneMatch(meeting -> meeting.getRealEstate().getId() == realEstate.getId()));
+            Assertions.assertThrows(EntityNotFoundException.class, () -> agreementService.settle(agreement));
+        } finally {
+            realEstateService.deleteById(realEstate.getId());
+            addressService.deleteById(address.getId());
+            clientService.deleteById(seller.getId());
+        }
+    }
+
+    @Test
+    public void getByClientIdTest() throws EntityNotFoundException {
+        Agreement expected = agreementRepository.findAll().stream()
+                .filter(agreement -> agreement.getClient().getId() == 2L)
+                .findFirst()
+                .orElseThrow();
+
+        QueryCounter.reset();
+        Agreement agreement = agreementService.getByClientId(2L).orElseThrow();
+        Assertions.assertEquals(1, QueryCounter.count());
+        Assertions.assertEquals(expected, agreement);
+        Assertions.assertEquals(2L, agreement.getClient().getId());
+        Assertions.assertTrue(agreementService.getByClientId(-1L).isEmpty());
+    }
+
+    private long countAgreementsForRealEstate(long realEstateId) {
+        return agreementRepository.findAll().stream()
+                .filter(agreement -> agreement.getRealEstate().getId() == realEstateId)
+                .count();
+    }
+
     private Agreement createSimpleAgreement() {
         return new Agreement(0, new Date(), new BigDecimal("100000.00"),
-                "12 months", "Active", new RealEstate(), new Client());
+                "12 months", "Active", new RealEstate(), new Client(), 0);
     }
 
     private void setRealEstateAvailable() {
@@ -92,7 +256,7 @@ public class AgreementTest {
             realEstate = realEstateRepository.findById(1L).get();
             realEstate.setAvailable(true);
             realEstateService.update(realEstate);
-        } catch (EntityNotFoundException | FieldValidationException e) {
+        } catch (EntityNotFoundException | FieldValidationException | ConcurrentUpdateException e) {
             LOGGER.error(e.getMessage());
             throw new RuntimeException(e);
         }
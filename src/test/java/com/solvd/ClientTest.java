@@ -1,11 +1,13 @@
 package com.solvd;
 
 import com.solvd.domain.Client;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EmailAlreadyExistsException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.domain.exceptions.PhoneNumberAlreadyExistsException;
 import com.solvd.service.ClientService;
+import com.solvd.service.cache.CacheStats;
 import com.solvd.service.impl.ClientServiceImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -98,7 +100,7 @@ public class ClientTest {
     }
 
     @Test
-    public void updateClientTest() throws EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException {
+    public void updateClientTest() throws EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException, ConcurrentUpdateException {
         Client.Builder builder = new Client.Builder();
         try {
             builder.setFirstName("Denys");
@@ -146,4 +148,69 @@ public class ClientTest {
 
         Assertions.assertNull(retrievedClient);
     }
+
+    @Test
+    public void authenticateTest() throws EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException, EntityNotFoundException, ConcurrentUpdateException {
+        Client client = Client.builder()
+                .setFirstName("Denys")
+                .setLastName("Kulikov")
+                .setEmail("dkulikov.login@gmail.com")
+                .setPhoneNumber("+380991230000")
+                .setRegistrationDate(new Date())
+                .build();
+        clientService.create(client);
+        try {
+            Assertions.assertEquals(client, clientService.authenticate("dkulikov.login@gmail.com", "+380991230000"));
+            Assertions.assertThrows(EntityNotFoundException.class,
+                    () -> clientService.authenticate("dkulikov.login@gmail.com", "+380991239999"));
+
+            CacheStats before = clientService.getCacheStats();
+            QueryCounter.reset();
+            clientService.authenticate("dkulikov.login@gmail.com", "+380991230000");
+            Assertions.assertEquals(client, clientService.getById(client.getId()));
+            Assertions.assertEquals(0, QueryCounter.count());
+            Assertions.assertEquals(before.getHits() + 1, clientService.getCacheStats().getHits());
+
+            client.setEmail("dkulikov.relogin@gmail.com");
+            clientService.update(client);
+            Assertions.assertThrows(EntityNotFoundException.class,
+                    () -> clientService.authenticate("dkulikov.login@gmail.com", "+380991230000"));
+            Assertions.assertEquals("dkulikov.relogin@gmail.com", clientService.getById(client.getId()).getEmail());
+        } finally {
+            clientService.deleteById(client.getId());
+        }
+    }
+
+    @Test
+    public void failedUpdateDoesNotLeakIntoCachesTest() throws EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException, EntityNotFoundException {
+        Client client = Client.builder()
+                .setFirstName("Denys")
+                .setLastName("Kulikov")
+                .setEmail("dkulikov.cached@gmail.com")
+                .setPhoneNumber("+380991230001")
+                .setRegistrationDate(new Date())
+                .build();
+        Client other = Client.builder()
+                .setFirstName("Olena")
+                .setLastName("Kulikova")
+                .setEmail("okulikova.cached@gmail.com")
+                .setPhoneNumber("+380991230002")
+                .setRegistrationDate(new Date())
+                .build();
+        clientService.create(client);
+        clientService.create(other);
+        try {
+            Client loggedIn = clientService.authenticate("dkulikov.cached@gmail.com", "+380991230001");
+            clientService.getById(client.getId());
+            loggedIn.setPhoneNumber(other.getPhoneNumber());
+            Assertions.assertThrows(PhoneNumberAlreadyExistsException.class, () -> clientService.update(loggedIn));
+
+            Assertions.assertEquals("+380991230001",
+                    clientService.authenticate("dkulikov.cached@gmail.com", "+380991230001").getPhoneNumber());
+            Assertions.assertEquals("+380991230001", clientService.getById(client.getId()).getPhoneNumber());
+        } finally {
+            clientService.deleteById(client.getId());
+            clientService.deleteById(other.getId());
+        }
+    }
 }
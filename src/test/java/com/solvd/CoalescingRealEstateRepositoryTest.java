@@ -0,0 +1,119 @@
+package com.solvd;
+
+import com.solvd.domain.RealEstate;
+import com.solvd.domain.RealEstateFilter;
+import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.persistence.FetchMode;
+import com.solvd.persistence.SingleFlightStats;
+import com.solvd.persistence.impl.CoalescingRealEstateRepository;
+import com.solvd.persistence.impl.RealEstateRepositoryMybatisImpl;
+import com.solvd.service.RealEstateService;
+import com.solvd.service.impl.RealEstateServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CoalescingRealEstateRepositoryTest {
+    private static final int CALLERS = 16;
+
+    @Test
+    public void concurrentFindAllIsCoalescedTest() throws InterruptedException, ExecutionException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger databaseCalls = new AtomicInteger();
+        CoalescingRealEstateRepository repository = new CoalescingRealEstateRepository(new RealEstateRepositoryMybatisImpl() {
+            @Override
+            public List<RealEstate> findAll(FetchMode fetchMode) {
+                databaseCalls.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findAll(fetchMode);
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<List<RealEstate>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> repository.findAll(FetchMode.BATCH)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (repository.getStats().getCoalesced() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        List<RealEstate> expected = new RealEstateRepositoryMybatisImpl().findAll(FetchMode.BATCH);
+        for (Future<List<RealEstate>> result : results) {
+            Assertions.assertEquals(expected, result.get());
+        }
+        executor.shutdown();
+
+        SingleFlightStats stats = repository.getStats();
+        Assertions.assertEquals(1, databaseCalls.get());
+        Assertions.assertEquals(1, stats.getExecuted());
+        Assertions.assertEquals(CALLERS - 1, stats.getCoalesced());
+    }
+
+    @Test
+    public void callsAfterWriteDoNotJoinEarlierQueryTest() throws InterruptedException, ExecutionException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong writeVersion = new AtomicLong();
+        CoalescingRealEstateRepository repository = new CoalescingRealEstateRepository(new RealEstateRepositoryMybatisImpl() {
+            @Override
+            public List<RealEstate> findAll(FetchMode fetchMode) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findAll(fetchMode);
+            }
+        }, writeVersion::get);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<List<RealEstate>> beforeWrite = executor.submit(() -> repository.findAll(FetchMode.BATCH));
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        writeVersion.incrementAndGet();
+        Future<List<RealEstate>> afterWrite = executor.submit(() -> repository.findAll(FetchMode.BATCH));
+        release.countDown();
+        beforeWrite.get();
+        afterWrite.get();
+        executor.shutdown();
+
+        Assertions.assertEquals(new SingleFlightStats(2, 0), repository.getStats());
+    }
+
+    @Test
+    public void sequentialCallsAreNotCoalescedTest() {
+        CoalescingRealEstateRepository repository = new CoalescingRealEstateRepository(new RealEstateRepositoryMybatisImpl());
+
+        repository.findById(1L);
+        repository.findById(1L);
+
+        Assertions.assertEquals(new SingleFlightStats(2, 0), repository.getStats());
+    }
+
+    @Test
+    public void serviceReportsCoalescingStatsTest() throws FieldValidationException {
+        RealEstateService realEstateService = new RealEstateServiceImpl();
+        long executed = realEstateService.getCoalescingStats().getExecuted();
+
+        realEstateService.getPage(1, 2, RealEstateFilter.available());
+
+        Assertions.assertTrue(realEstateService.getCoalescingStats().getExecuted() > executed);
+    }
+}
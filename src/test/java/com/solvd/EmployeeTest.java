@@ -1,6 +1,7 @@
 package com.solvd;
 
 import com.solvd.domain.Employee;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EmailAlreadyExistsException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
@@ -40,7 +41,7 @@ public class EmployeeTest {
     }
 
     @Test
-    public void updateEmployeeTest() throws EntityNotFoundException, FieldValidationException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException {
+    public void updateEmployeeTest() throws EntityNotFoundException, FieldValidationException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, ConcurrentUpdateException {
         Employee employee = createSimpleEmployee();
         employeeService.create(employee);
         employee.setEmail("ewjidjei@gmail.com");
@@ -0,0 +1,92 @@
+package com.solvd;
+
+import com.solvd.domain.Client;
+import com.solvd.domain.Meeting;
+import com.solvd.domain.exceptions.EntityNotFoundException;
+import com.solvd.persistence.metrics.Instrumentation;
+import com.solvd.service.ClientService;
+import com.solvd.service.MeetingService;
+import com.solvd.service.impl.ClientServiceImpl;
+import com.solvd.service.impl.MeetingServiceImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class FlightRecorderEventsTest {
+    private static final Logger LOGGER = LogManager.getLogger(FlightRecorderEventsTest.class);
+
+    private final ClientService clientService = new ClientServiceImpl();
+
+    @Test
+    public void recordsServiceAndRepositoryCallsTest() throws EntityNotFoundException, IOException {
+        MeetingService meetingService = Instrumentation.service(MeetingService.class, new MeetingServiceImpl());
+        Client client = clientService.getById(2L);
+        Path file = Files.createTempFile("calls", ".jfr");
+        List<Meeting> meetings;
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.solvd.ServiceCall").withThreshold(Duration.ZERO);
+            recording.enable("com.solvd.RepositoryCall").withThreshold(Duration.ZERO);
+            recording.start();
+            meetings = meetingService.getByClient(client);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.solvd."))
+                .collect(Collectors.toList());
+        Files.delete(file);
+        LOGGER.info(events);
+        String expectedIds = meetings.stream().map(meeting -> String.valueOf(meeting.getId())).collect(Collectors.joining(","));
+        RecordedEvent service = findEvent(events, "com.solvd.ServiceCall");
+        RecordedEvent repository = findEvent(events, "com.solvd.RepositoryCall");
+        Assertions.assertEquals("MeetingService.getByClient", service.getString("operation"));
+        Assertions.assertEquals("Meeting", service.getString("entityType"));
+        Assertions.assertEquals(meetings.size(), service.getLong("rows"));
+        Assertions.assertEquals(expectedIds, service.getString("ids"));
+        Assertions.assertEquals("MeetingRepository.findAllByBuyerId", repository.getString("operation"));
+        Assertions.assertEquals(meetings.size(), repository.getLong("rows"));
+        Assertions.assertFalse(repository.getBoolean("failed"));
+        Assertions.assertTrue(service.getDuration().compareTo(repository.getDuration()) >= 0);
+    }
+
+    @Test
+    public void recordsIdsOfMissingEntitiesTest() throws IOException {
+        MeetingService meetingService = Instrumentation.service(MeetingService.class, new MeetingServiceImpl());
+        Path file = Files.createTempFile("calls", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.solvd.ServiceCall").withThreshold(Duration.ZERO);
+            recording.start();
+            Assertions.assertThrows(EntityNotFoundException.class, () -> meetingService.getById(Long.MAX_VALUE));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        RecordedEvent service = findEvent(events, "com.solvd.ServiceCall");
+        Assertions.assertEquals(String.valueOf(Long.MAX_VALUE), service.getString("ids"));
+        Assertions.assertEquals(0, service.getLong("rows"));
+        Assertions.assertTrue(service.getBoolean("failed"));
+    }
+
+    private RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event recorded"));
+    }
+}
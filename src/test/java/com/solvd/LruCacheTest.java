@@ -0,0 +1,85 @@
+package com.solvd;
+
+import com.solvd.service.cache.CacheStats;
+import com.solvd.service.cache.LruCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public class LruCacheTest {
+
+    @Test
+    public void evictsLeastRecentlyUsedTest() {
+        LruCache<Long, String> cache = new LruCache<>(2, Duration.ofMinutes(1));
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+        cache.put(3L, "three");
+
+        Assertions.assertEquals(Optional.of("one"), cache.get(1L));
+        Assertions.assertEquals(Optional.empty(), cache.get(2L));
+        Assertions.assertEquals(Optional.of("three"), cache.get(3L));
+        CacheStats stats = cache.getStats();
+        Assertions.assertEquals(1, stats.getEvictions());
+        Assertions.assertEquals(3, stats.getHits());
+        Assertions.assertEquals(1, stats.getMisses());
+        Assertions.assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    public void expiresAfterTtlTest() throws InterruptedException {
+        LruCache<Long, String> cache = new LruCache<>(10, Duration.ofMillis(20));
+        cache.put(1L, "one");
+        Assertions.assertEquals(Optional.of("one"), cache.get(1L));
+
+        Thread.sleep(50);
+
+        Assertions.assertEquals(Optional.empty(), cache.get(1L));
+        Assertions.assertEquals(1, cache.getStats().getEvictions());
+    }
+
+    @Test
+    public void invalidationDuringLoadIsNotCachedTest() {
+        LruCache<Long, String> cache = new LruCache<>(10, Duration.ofMinutes(1));
+
+        Optional<String> loaded = cache.getOrLoad(1L, key -> {
+            cache.invalidate(key);
+            return Optional.of("stale");
+        });
+
+        Assertions.assertEquals(Optional.of("stale"), loaded);
+        Assertions.assertEquals(0, cache.getStats().getSize());
+        Assertions.assertEquals(Optional.of("fresh"), cache.getOrLoad(1L, key -> Optional.of("fresh")));
+        Assertions.assertEquals(Optional.of("fresh"), cache.get(1L));
+    }
+
+    @Test
+    public void storesAndReturnsCopiesTest() {
+        LruCache<Long, StringBuilder> cache = new LruCache<>(10, Duration.ofMinutes(1), value -> new StringBuilder(value));
+        StringBuilder value = new StringBuilder("one");
+        cache.put(1L, value);
+        value.append("-edited");
+        cache.get(1L).orElseThrow().append("-edited");
+
+        Assertions.assertEquals("one", cache.get(1L).orElseThrow().toString());
+
+        StringBuilder loaded = cache.getOrLoad(2L, key -> Optional.of(new StringBuilder("two"))).orElseThrow();
+        loaded.append("-edited");
+
+        Assertions.assertEquals("two", cache.get(2L).orElseThrow().toString());
+    }
+
+    @Test
+    public void putIfUnchangedSkipsAfterInvalidationTest() {
+        LruCache<Long, String> cache = new LruCache<>(10, Duration.ofMinutes(1));
+        long generation = cache.getGeneration();
+        cache.invalidate(1L);
+
+        Assertions.assertFalse(cache.putIfUnchanged(1L, "stale", generation));
+        Assertions.assertEquals(Optional.empty(), cache.get(1L));
+        Assertions.assertTrue(cache.putIfUnchanged(1L, "fresh", cache.getGeneration()));
+        Assertions.assertEquals(Optional.of("fresh"), cache.get(1L));
+    }
+}
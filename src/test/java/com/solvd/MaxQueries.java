@@ -0,0 +1,14 @@
+package com.solvd;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxQueries {
+    int value();
+
+    int roundTrips() default Integer.MAX_VALUE;
+}
@@ -4,8 +4,11 @@ import com.solvd.domain.Client;
 import com.solvd.domain.Employee;
 import com.solvd.domain.Meeting;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.persistence.MeetingRepository;
+import com.solvd.persistence.impl.MeetingRepositoryMybatisImpl;
 import com.solvd.service.ClientService;
 import com.solvd.service.EmployeeService;
 import com.solvd.service.MeetingService;
@@ -21,6 +24,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class MeetingServiceTest {
     private static final Logger LOGGER = LogManager.getLogger(MeetingServiceTest.class);
@@ -29,6 +34,7 @@ public class MeetingServiceTest {
     private final RealEstateService realEstateService = new RealEstateServiceImpl();
     private final MeetingService meetingService = new MeetingServiceImpl();
     private final EmployeeService employeeService = new EmployeeServiceImpl();
+    private final MeetingRepository meetingRepository = new MeetingRepositoryMybatisImpl();
 
     private Meeting createSampleMeeting() throws EntityNotFoundException {
         RealEstate realEstate = realEstateService.getAvailableById(2L);
@@ -81,7 +87,7 @@ public class MeetingServiceTest {
             Assertions.assertNotNull(retrievedUpdatedMeeting);
             Assertions.assertEquals("test status", retrievedUpdatedMeeting.getMeetingStatus());
             meetingService.deleteById(meeting.getId());
-        } catch (EntityNotFoundException | FieldValidationException e) {
+        } catch (EntityNotFoundException | FieldValidationException | ConcurrentUpdateException e) {
             LOGGER.error(e.getMessage());
             throw new RuntimeException(e);
         }
@@ -102,4 +108,35 @@ public class MeetingServiceTest {
             throw new RuntimeException(e);
         }
     }
+
+    @Test
+    public void findAllMeetingsQueryCountTest() {
+        QueryCounter.reset();
+        List<Meeting> meetings = meetingRepository.findAll();
+
+        Assertions.assertFalse(meetings.isEmpty());
+        Assertions.assertEquals(1, QueryCounter.count());
+        for (Meeting meeting : meetings) {
+            Assertions.assertNotNull(meeting.getRealEstate().getAddress());
+            Assertions.assertNotNull(meeting.getRealEstate().getSeller());
+            Assertions.assertNotNull(meeting.getBuyer().getEmail());
+            Assertions.assertNotNull(meeting.getEmployee().getEmail());
+        }
+    }
+
+    @Test
+    public void findMeetingsByOwnerTest() throws EntityNotFoundException {
+        List<Meeting> meetings = meetingRepository.findAll();
+        Client client = clientService.getById(2L);
+        RealEstate realEstate = realEstateService.getAvailableById(1L);
+        Employee employee = employeeService.getById(1L);
+
+        Assertions.assertEquals(meetings.stream().filter(meeting -> meeting.getBuyer().getId() == client.getId()).collect(Collectors.toList()),
+                meetingService.getByClient(client));
+        Assertions.assertEquals(meetings.stream().filter(meeting -> meeting.getRealEstate().getId() == realEstate.getId()).collect(Collectors.toList()),
+                meetingService.getByRealEstate(realEstate));
+        Assertions.assertEquals(meetings.stream().filter(meeting -> meeting.getEmployee().getId() == employee.getId()).collect(Collectors.toList()),
+                meetingService.getByEmployee(employee));
+        Assertions.assertFalse(meetingService.getByClient(client).isEmpty());
+    }
 }
@@ -0,0 +1,75 @@
+package com.solvd;
+
+import com.solvd.persistence.AddressRepository;
+import com.solvd.persistence.impl.AddressRepositoryMybatisImpl;
+import com.solvd.service.metrics.MetricsServer;
+import com.solvd.service.metrics.PrometheusExporter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class MetricsServerTest {
+    private static final Logger LOGGER = LogManager.getLogger(MetricsServerTest.class);
+    private static final Pattern SAMPLE = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*(\\{[^}]*})? (-?[0-9.]+(E-?[0-9]+)?|NaN)");
+
+    @Test
+    public void scrapeTest() throws IOException {
+        AddressRepository addressRepository = new AddressRepositoryMybatisImpl();
+        addressRepository.existsById(1);
+
+        try (MetricsServer server = MetricsServer.start(0, new PrometheusExporter())) {
+            HttpURLConnection connection = open(server);
+            Assertions.assertEquals(200, connection.getResponseCode());
+            Assertions.assertEquals(PrometheusExporter.CONTENT_TYPE, connection.getContentType());
+            String body;
+            try (InputStream inputStream = connection.getInputStream()) {
+                body = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            LOGGER.info(body);
+
+            Assertions.assertTrue(body.contains("\ndb_pool_active_connections "));
+            Assertions.assertTrue(body.contains("\nmybatis_statement_duration_seconds_count{statement=\"com.solvd.persistence.AddressRepository.existsById\"} "));
+            Assertions.assertTrue(body.contains("\nmybatis_statement_duration_seconds{statement=\"com.solvd.persistence.AddressRepository.existsById\",quantile=\"0.99\"} "));
+            Assertions.assertTrue(body.contains("\ncache_hit_ratio{cache=\"client\"} "));
+            Assertions.assertTrue(body.contains("\njvm_memory_used_bytes{area=\"heap\"} "));
+            assertValidExposition(List.of(body.split("\n")));
+        }
+    }
+
+    @Test
+    public void rejectsNonGetRequestsTest() throws IOException {
+        try (MetricsServer server = MetricsServer.start(0, new PrometheusExporter())) {
+            HttpURLConnection connection = open(server);
+            connection.setRequestMethod("POST");
+
+            Assertions.assertEquals(405, connection.getResponseCode());
+        }
+    }
+
+    private HttpURLConnection open(MetricsServer server) throws IOException {
+        URL url = new URL("http://localhost:" + server.getPort() + MetricsServer.PATH);
+        return (HttpURLConnection) url.openConnection();
+    }
+
+    private void assertValidExposition(List<String> lines) {
+        Set<String> families = new HashSet<>();
+        for (String line : lines) {
+            if (line.startsWith("# TYPE ")) {
+                Assertions.assertTrue(families.add(line.split(" ")[2]), "Family declared twice: " + line);
+            } else if (!line.startsWith("# HELP ")) {
+                Assertions.assertTrue(SAMPLE.matcher(line).matches(), "Malformed sample: " + line);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.solvd;
+
+import com.solvd.persistence.Config;
+import com.solvd.persistence.metrics.QueryScope;
+import com.solvd.persistence.metrics.QueryStats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (context.getRequiredTestMethod().isAnnotationPresent(MaxQueries.class)) {
+            Config.getSessionFactory();
+            context.getStore(NAMESPACE).put(QueryScope.class, QueryScope.open(context.getDisplayName()));
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryScope scope = context.getStore(NAMESPACE).remove(QueryScope.class, QueryScope.class);
+        if (scope == null) {
+            return;
+        }
+        QueryStats stats = scope.getStats();
+        scope.close();
+        MaxQueries budget = context.getRequiredTestMethod().getAnnotation(MaxQueries.class);
+        Assertions.assertTrue(stats.getStatements() <= budget.value(),
+                "Expected at most " + budget.value() + " statements, " + stats);
+        Assertions.assertTrue(stats.getRoundTrips() <= budget.roundTrips(),
+                "Expected at most " + budget.roundTrips() + " round trips, " + stats);
+    }
+}
@@ -0,0 +1,108 @@
+package com.solvd;
+
+import com.solvd.domain.Client;
+import com.solvd.domain.Meeting;
+import com.solvd.domain.exceptions.EntityNotFoundException;
+import com.solvd.persistence.ClientRepository;
+import com.solvd.persistence.impl.ClientRepositoryMybatisImpl;
+import com.solvd.persistence.metrics.QueryBudget;
+import com.solvd.persistence.metrics.QueryBudgetExceededException;
+import com.solvd.persistence.metrics.QueryScope;
+import com.solvd.persistence.metrics.QueryStats;
+import com.solvd.persistence.metrics.RepeatedStatementException;
+import com.solvd.service.ClientService;
+import com.solvd.service.MeetingService;
+import com.solvd.service.impl.ClientServiceImpl;
+import com.solvd.service.impl.MeetingServiceImpl;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(QueryBudgetExtension.class)
+public class QueryBudgetTest {
+    private static final Logger LOGGER = LogManager.getLogger(QueryBudgetTest.class);
+    private static final String FIND_MEETINGS_BY_BUYER_ID = "com.solvd.persistence.MeetingRepository.findAllByBuyerId";
+    private static final String FIND_CLIENT_BY_ID = "com.solvd.persistence.ClientRepository.findById";
+
+    private final ClientService clientService = new ClientServiceImpl();
+    private final MeetingService meetingService = new MeetingServiceImpl();
+    private Client client;
+
+    @BeforeEach
+    public void loadClient() throws EntityNotFoundException {
+        client = clientService.getById(2L);
+    }
+
+    @Test
+    @MaxQueries(value = 1, roundTrips = 1)
+    public void getByClientWithinBudgetTest() {
+        List<Meeting> meetings = meetingService.getByClient(client);
+
+        Assertions.assertTrue(meetings.stream().allMatch(meeting -> meeting.getBuyer().getId() == client.getId()));
+    }
+
+    @Test
+    public void exceededBudgetFailsTest() {
+        MeetingService trackedService = new QueryBudget(0, true).track(MeetingService.class, meetingService);
+
+        QueryBudgetExceededException e = Assertions.assertThrows(QueryBudgetExceededException.class,
+                () -> trackedService.getByClient(client));
+
+        LOGGER.info(e.getMessage());
+        Assertions.assertEquals(new QueryStats("MeetingService.getByClient", 1, 1,
+                Map.of(FIND_MEETINGS_BY_BUYER_ID, 1)), e.getStats());
+        Assertions.assertEquals(0, e.getBudget());
+    }
+
+    @Test
+    public void operationLimitOverridesDefaultTest() {
+        MeetingService trackedService = new QueryBudget(0, true)
+                .withLimit("MeetingService.getByClient", 1)
+                .track(MeetingService.class, meetingService);
+
+        Assertions.assertDoesNotThrow(() -> trackedService.getByClient(client));
+        Assertions.assertThrows(QueryBudgetExceededException.class, trackedService::getAll);
+    }
+
+    @Test
+    public void nestedOperationsReportToOutermostScopeTest() {
+        MeetingService trackedService = new QueryBudget(0, true).track(MeetingService.class, meetingService);
+
+        try (QueryScope scope = QueryScope.open("clientOverview")) {
+            trackedService.getByClient(client);
+            trackedService.getAll();
+
+            Assertions.assertEquals(new QueryStats("clientOverview", 2, 2,
+                    Map.of(FIND_MEETINGS_BY_BUYER_ID, 1, "com.solvd.persistence.MeetingRepository.findAll", 1)), scope.getStats());
+        }
+        Assertions.assertTrue(QueryScope.current().isEmpty());
+    }
+
+    @Test
+    public void perRowLookupIsReportedAsRepeatedStatementTest() {
+        ClientRepository clientRepository = new ClientRepositoryMybatisImpl();
+        QueryBudget budget = new QueryBudget(50, true).withRepeatLimit(2);
+
+        try (QueryScope scope = QueryScope.open("meetingBuyers")) {
+            for (Meeting meeting : meetingService.getAll()) {
+                clientRepository.findById(meeting.getBuyer().getId());
+            }
+            QueryStats stats = scope.getStats();
+            int meetings = stats.getExecutions().get(FIND_CLIENT_BY_ID);
+            Assertions.assertTrue(meetings > 2, "seed data should hold more than two meetings");
+
+            RepeatedStatementException e = Assertions.assertThrows(RepeatedStatementException.class, () -> budget.check(stats));
+
+            LOGGER.info(e.getMessage());
+            Assertions.assertEquals(FIND_CLIENT_BY_ID, e.getStatementId());
+            Assertions.assertEquals(meetings, e.getExecutions());
+            Assertions.assertEquals(2, e.getBudget());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.solvd;
+
+import com.solvd.persistence.Config;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+public class QueryCounter implements Interceptor {
+    private static final QueryCounter INSTANCE = new QueryCounter();
+
+    static {
+        Config.getSessionFactory().getConfiguration().addInterceptor(INSTANCE);
+    }
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    public static void reset() {
+        INSTANCE.count.set(0);
+    }
+
+    public static int count() {
+        return INSTANCE.count.get();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        count.incrementAndGet();
+        return invocation.proceed();
+    }
+}
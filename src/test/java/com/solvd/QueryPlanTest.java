@@ -0,0 +1,130 @@
+package com.solvd;
+
+import com.solvd.domain.enums.RealEstateType;
+import com.solvd.persistence.Config;
+import com.solvd.persistence.FetchMode;
+import com.solvd.persistence.SchemaMigrator;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class QueryPlanTest {
+    private static final Logger LOGGER = LogManager.getLogger(QueryPlanTest.class);
+    private static final Set<String> HOT_TABLES = Set.of("real_estates", "real_estate_has_tags", "photo_links", "meetings", "agreements");
+    private static final Pattern TABLE_REFERENCE =
+            Pattern.compile("\\b(?:FROM|JOIN)\\s+(\\w+)(?:\\s+(?!WHERE\\b|ON\\b|LEFT\\b|INNER\\b|JOIN\\b|GROUP\\b|ORDER\\b|LIMIT\\b)(\\w+))?",
+                    Pattern.CASE_INSENSITIVE);
+
+    private final Configuration configuration = Config.getSessionFactory().getConfiguration();
+
+    @Test
+    public void migrationsAreIdempotentTest() {
+        SchemaMigrator migrator = new SchemaMigrator(configuration.getEnvironment().getDataSource());
+
+        Assertions.assertEquals(0, migrator.migrate());
+    }
+
+    @Test
+    public void availableListingsUseIndexTest() throws SQLException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("fetchMode", FetchMode.JOIN);
+        assertNoFullScan("com.solvd.persistence.RealEstateRepository.findAllAvailable", parameters);
+
+        parameters.put("realEstateType", RealEstateType.APARTMENT);
+        assertNoFullScan("com.solvd.persistence.RealEstateRepository.findAllAvailableByType", parameters);
+
+        parameters.put("sellerId", 1L);
+        assertNoFullScan("com.solvd.persistence.RealEstateRepository.findAllBySellerId", parameters);
+    }
+
+    @Test
+    public void batchFetchUsesIndexTest() throws SQLException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("realEstateIds", List.of(1L, 2L, 3L));
+
+        assertNoFullScan("com.solvd.persistence.RealEstateRepository.findPhotosByRealEstateIds", parameters);
+        assertNoFullScan("com.solvd.persistence.RealEstateRepository.findTagsByRealEstateIds", parameters);
+    }
+
+    @Test
+    public void ownerLookupsUseIndexTest() throws SQLException {
+        assertNoFullScan("com.solvd.persistence.MeetingRepository.findAllByBuyerId", 2L);
+        assertNoFullScan("com.solvd.persistence.MeetingRepository.findAllByRealEstateId", 1L);
+        assertNoFullScan("com.solvd.persistence.MeetingRepository.findAllByEmployeeId", 1L);
+        assertNoFullScan("com.solvd.persistence.AgreementRepository.findAllByClientId", 2L);
+
+        Map<String, Object> credentials = new HashMap<>();
+        credentials.put("email", "john.doe@example.com");
+        credentials.put("phoneNumber", "+380991234567");
+        assertNoFullScan("com.solvd.persistence.ClientRepository.findByEmailAndPhoneNumber", credentials);
+    }
+
+    private void assertNoFullScan(String statementId, Object parameter) throws SQLException {
+        MappedStatement mappedStatement = configuration.getMappedStatement(statementId);
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        try (SqlSession sqlSession = Config.openSession();
+             PreparedStatement statement = sqlSession.getConnection().prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            ParameterHandler parameterHandler = new DefaultParameterHandler(mappedStatement, parameter, boundSql);
+            parameterHandler.setParameters(statement);
+            List<String> fullScans = findFullScans(statement, findTables(boundSql.getSql()));
+            LOGGER.info(statementId + ": " + (fullScans.isEmpty() ? "indexed" : "full scan of " + fullScans));
+            Assertions.assertTrue(fullScans.isEmpty(), statementId + " scans " + fullScans + " without a usable index");
+        }
+    }
+
+    private List<String> findFullScans(PreparedStatement statement, Map<String, String> tables) throws SQLException {
+        List<String> fullScans = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            Assumptions.assumeTrue(hasColumn(resultSet.getMetaData(), "type"), "query plans are checked against MySQL only");
+            while (resultSet.next()) {
+                String table = tables.getOrDefault(resultSet.getString("table"), resultSet.getString("table"));
+                if ("ALL".equals(resultSet.getString("type")) && HOT_TABLES.contains(table)) {
+                    fullScans.add(table);
+                }
+            }
+        }
+        return fullScans;
+    }
+
+    private Map<String, String> findTables(String sql) {
+        Map<String, String> tables = new HashMap<>();
+        Matcher matcher = TABLE_REFERENCE.matcher(sql);
+        while (matcher.find()) {
+            tables.put(matcher.group(1), matcher.group(1));
+            if (matcher.group(2) != null) {
+                tables.put(matcher.group(2), matcher.group(1));
+            }
+        }
+        return tables;
+    }
+
+    private boolean hasColumn(ResultSetMetaData metaData, String name) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (name.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+package com.solvd;
+
+import com.solvd.domain.RealEstate;
+import com.solvd.domain.exceptions.MalformedRecordException;
+import com.solvd.persistence.RealEstateRepository;
+import com.solvd.persistence.impl.RealEstateRepositoryMybatisImpl;
+import com.solvd.service.exports.ExportFormat;
+import com.solvd.service.exports.ExportReport;
+import com.solvd.service.exports.RealEstateExporter;
+import com.solvd.service.impl.RealEstateServiceImpl;
+import com.solvd.service.imports.CsvRecordReader;
+import com.solvd.service.imports.JsonLinesRecordReader;
+import com.solvd.service.imports.RecordReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+public class RealEstateExportTest {
+    private static final Logger LOGGER = LogManager.getLogger(RealEstateExportTest.class);
+
+    private final RealEstateRepository realEstateRepository = new RealEstateRepositoryMybatisImpl();
+    private final RealEstateExporter exporter = new RealEstateExporter(new RealEstateServiceImpl());
+
+    @Test
+    public void exportCsvTest() throws IOException, MalformedRecordException {
+        Path path = Files.createTempFile("real-estates", ".csv");
+        try {
+            ExportReport report = exporter.exportTo(path, ExportFormat.CSV, false);
+            LOGGER.info(report);
+
+            try (RecordReader reader = new CsvRecordReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+                assertExported(report, reader);
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void exportGzipJsonLinesTest() throws IOException, MalformedRecordException {
+        Path path = Files.createTempFile("real-estates", ".jsonl.gz");
+        try {
+            ExportReport report = exporter.exportTo(path, ExportFormat.JSONL, true);
+            LOGGER.info(report);
+
+            try (RecordReader reader = new JsonLinesRecordReader(new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8)))) {
+                assertExported(report, reader);
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private void assertExported(ExportReport report, RecordReader reader) throws IOException, MalformedRecordException {
+        Map<Long, RealEstate> expected = realEstateRepository.findAll().stream()
+                .collect(Collectors.toMap(RealEstate::getId, Function.identity()));
+        Map<Long, Map<String, Object>> exported = new HashMap<>();
+        Map<String, Object> record;
+        while ((record = reader.next()) != null) {
+            exported.put(Long.parseLong((String) record.get("id")), record);
+        }
+
+        Assertions.assertEquals(expected.size(), report.getRows());
+        Assertions.assertEquals(expected.keySet(), exported.keySet());
+        for (RealEstate realEstate : expected.values()) {
+            Map<String, Object> row = exported.get(realEstate.getId());
+            Assertions.assertEquals(realEstate.getDescription(), row.get("description"));
+            Assertions.assertEquals(realEstate.getAddress().getCity(), row.get("city"));
+            Assertions.assertEquals(String.valueOf(realEstate.getSeller().getId()), row.get("seller_id"));
+            Assertions.assertEquals(realEstate.getPhotos().size(), values(row.get("photos")).size());
+            Assertions.assertEquals(realEstate.getTags().size(), values(row.get("tags")).size());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> values(Object value) {
+        if (value instanceof List) {
+            return (List<String>) value;
+        }
+        return value == null || value.toString().isEmpty() ? List.of() : List.of(value.toString().split("\\|"));
+    }
+}
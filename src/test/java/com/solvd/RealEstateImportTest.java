@@ -0,0 +1,168 @@
+package com.solvd;
+
+import com.solvd.domain.Client;
+import com.solvd.domain.RealEstate;
+import com.solvd.domain.exceptions.MalformedRecordException;
+import com.solvd.persistence.AddressRepository;
+import com.solvd.persistence.ClientRepository;
+import com.solvd.persistence.FetchMode;
+import com.solvd.persistence.RealEstateRepository;
+import com.solvd.persistence.TagRepository;
+import com.solvd.persistence.impl.AddressRepositoryMybatisImpl;
+import com.solvd.persistence.impl.ClientRepositoryMybatisImpl;
+import com.solvd.persistence.impl.RealEstateRepositoryMybatisImpl;
+import com.solvd.persistence.impl.TagRepositoryMybatisImpl;
+import com.solvd.service.impl.RealEstateServiceImpl;
+import com.solvd.service.imports.CsvRecordReader;
+import com.solvd.service.imports.ImportReject;
+import com.solvd.service.imports.ImportReport;
+import com.solvd.service.imports.JsonLinesRecordReader;
+import com.solvd.service.imports.RealEstateImporter;
+import com.solvd.service.imports.RecordReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+public class RealEstateImportTest {
+    private static final Logger LOGGER = LogManager.getLogger(RealEstateImportTest.class);
+    private static final int ROWS = 200;
+
+    private final RealEstateRepository realEstateRepository = new RealEstateRepositoryMybatisImpl();
+    private final AddressRepository addressRepository = new AddressRepositoryMybatisImpl();
+    private final ClientRepository clientRepository = new ClientRepositoryMybatisImpl();
+    private final TagRepository tagRepository = new TagRepositoryMybatisImpl();
+    private final List<ImportReject> rejects = new CopyOnWriteArrayList<>();
+    private final RealEstateImporter importer = new RealEstateImporter(new RealEstateServiceImpl(), 25, 4, rejects::add);
+
+    private Client seller;
+
+    @BeforeEach
+    public void createSeller() {
+        seller = Client.builder()
+                .setFirstName("Feed")
+                .setLastName("Seller")
+                .setEmail("feed.seller@example.com")
+                .setPhoneNumber("+380990000003")
+                .setRegistrationDate(new Date())
+                .build();
+        clientRepository.create(seller);
+    }
+
+    @AfterEach
+    public void deleteImported() {
+        for (RealEstate realEstate : realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.BATCH)) {
+            realEstateRepository.deleteById(realEstate.getId());
+            addressRepository.deleteById(realEstate.getAddress().getId());
+        }
+        tagRepository.deleteByName("feed-new");
+        clientRepository.deleteById(seller.getId());
+    }
+
+    @Test
+    public void importCsvTest() throws IOException, InterruptedException {
+        StringBuilder csv = new StringBuilder("country,region,city,street,building,apartment,price,description,type,metrics,rooms,seller_id,photos,tags\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(String.format("Ukraine,Kyiv region,Kyiv,\"Feed street, %d\",%d,1,%d,\"Listing \"\"%d\"\"\",apartment,45,2,%d,"
+                            + "https://example.com/feed/%d/a.jpg|https://example.com/feed/%d/b.jpg,Luxury|feed-new\n",
+                    i, i, 40000 + i, i, seller.getId(), i, i));
+        }
+        csv.append(String.format("Ukraine,Kyiv region,Kyiv,Bad street,1,1,not-a-price,Broken,apartment,45,2,%d,,\n", seller.getId()));
+        csv.append(String.format("Ukraine,Kyiv region,Kyiv,Bad street,2,1,1000,Broken,castle,45,2,%d,,\n", seller.getId()));
+        csv.append("Ukraine,\"unterminated\n");
+
+        ImportReport report;
+        try (RecordReader reader = new CsvRecordReader(new BufferedReader(new StringReader(csv.toString())))) {
+            report = importer.importFrom(reader);
+        }
+        LOGGER.info(report);
+
+        Assertions.assertEquals(ROWS, report.getImported());
+        Assertions.assertEquals(3, report.getRejected());
+        Assertions.assertEquals(List.of(202L, 203L, 204L), rejects.stream()
+                .map(ImportReject::getLineNumber)
+                .sorted()
+                .collect(Collectors.toList()));
+        List<RealEstate> imported = realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.BATCH);
+        Assertions.assertEquals(ROWS, imported.size());
+        for (RealEstate realEstate : imported) {
+            Assertions.assertEquals(2, realEstate.getPhotos().size());
+            Assertions.assertEquals(2, realEstate.getTags().size());
+        }
+    }
+
+    @Test
+    public void importJsonLinesTest() throws IOException, InterruptedException {
+        StringBuilder jsonLines = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            jsonLines.append(String.format("{\"country\": \"Ukraine\", \"region\": \"Lviv region\", \"city\": \"Lviv\", "
+                            + "\"street\": \"Feed \\\"street\\\"\", \"building\": \"%d\", \"apartment\": \"1\", \"price\": %d, "
+                            + "\"description\": \"Listing %d\", \"type\": \"BUILDING\", \"metrics\": \"120\", \"rooms\": 5, "
+                            + "\"seller_id\": %d, \"photos\": [\"https://example.com/feed/json/%d.jpg\"], \"tags\": []}\n",
+                    i, 90000 + i, i, seller.getId(), i));
+        }
+        jsonLines.append("{\"country\": \"Ukraine\", \"city\": }\n");
+        jsonLines.append("{\"country\": \"Ukraine\", \"region\": \"Lviv region\", \"city\": \"Lviv\", \"street\": \"Ghost\", "
+                + "\"building\": \"1\", \"apartment\": \"1\", \"price\": 1000, \"description\": \"No seller\", "
+                + "\"type\": \"APARTMENT\", \"metrics\": \"10\", \"rooms\": 1, \"seller_id\": 999999}\n");
+
+        ImportReport report;
+        try (RecordReader reader = new JsonLinesRecordReader(new BufferedReader(new StringReader(jsonLines.toString())))) {
+            report = importer.importFrom(reader);
+        }
+        LOGGER.info(report);
+
+        Assertions.assertEquals(ROWS, report.getImported());
+        Assertions.assertEquals(2, report.getRejected());
+        Assertions.assertEquals(ROWS, realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.BATCH).size());
+        Assertions.assertEquals("Feed \"street\"", realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.BATCH)
+                .get(0).getAddress().getStreet());
+    }
+
+    @Test
+    public void importRepeatedTagsTest() throws IOException, InterruptedException {
+        StringBuilder csv = new StringBuilder("country,region,city,street,building,apartment,price,description,type,metrics,rooms,seller_id,photos,tags\n");
+        for (int i = 0; i < 3; i++) {
+            csv.append(String.format("Ukraine,Kyiv region,Kyiv,Tag street,%d,1,%d,Tagged,apartment,45,2,%d,,feed-new|Luxury|feed-new|luxury\n",
+                    i, 50000 + i, seller.getId()));
+        }
+
+        ImportReport report;
+        try (RecordReader reader = new CsvRecordReader(new BufferedReader(new StringReader(csv.toString())))) {
+            report = importer.importFrom(reader);
+        }
+        LOGGER.info(report);
+
+        Assertions.assertEquals(3, report.getImported());
+        Assertions.assertEquals(0, report.getRejected());
+        for (RealEstate realEstate : realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.BATCH)) {
+            Assertions.assertEquals(2, realEstate.getTags().size());
+        }
+    }
+
+    @Test
+    public void jsonLinesUnicodeEscapeTest() throws IOException, MalformedRecordException {
+        String jsonLines = "{\"city\": \"Caf\\u00e9\"}\n"
+                + "{\"city\": \"\\u12\"}\n"
+                + "{\"city\": \"\\u+1ab\"}\n"
+                + "{\"city\": \"\\uzzzz\"}\n";
+        try (RecordReader reader = new JsonLinesRecordReader(new BufferedReader(new StringReader(jsonLines)))) {
+            Assertions.assertEquals("Caf\u00e9", reader.next().get("city"));
+            for (int i = 0; i < 3; i++) {
+                MalformedRecordException e = Assertions.assertThrows(MalformedRecordException.class, reader::next);
+                Assertions.assertTrue(e.getMessage().endsWith("invalid unicode escape"), e.getMessage());
+            }
+            Assertions.assertNull(reader.next());
+        }
+    }
+}
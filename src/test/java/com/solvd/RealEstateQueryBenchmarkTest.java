@@ -0,0 +1,306 @@
+package com.solvd;
+
+import com.solvd.domain.Address;
+import com.solvd.domain.Client;
+import com.solvd.domain.Photo;
+import com.solvd.domain.RealEstate;
+import com.solvd.domain.Tag;
+import com.solvd.domain.enums.RealEstateType;
+import com.solvd.domain.exceptions.FieldValidationException;
+import com.solvd.persistence.AddressRepository;
+import com.solvd.persistence.ClientRepository;
+import com.solvd.persistence.FetchMode;
+import com.solvd.persistence.PhotoRepository;
+import com.solvd.persistence.RealEstateRepository;
+import com.solvd.persistence.TagRepository;
+import com.solvd.persistence.impl.AddressRepositoryMybatisImpl;
+import com.solvd.persistence.impl.ClientRepositoryMybatisImpl;
+import com.solvd.persistence.impl.PhotoRepositoryMybatisImpl;
+import com.solvd.persistence.impl.RealEstateRepositoryMybatisImpl;
+import com.solvd.persistence.impl.TagRepositoryMybatisImpl;
+import com.solvd.service.RealEstateService;
+import com.solvd.service.impl.RealEstateServiceImpl;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class RealEstateQueryBenchmarkTest {
+    private static final Logger LOGGER = LogManager.getLogger(RealEstateQueryBenchmarkTest.class);
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 50;
+    private static final int SEEDED_REAL_ESTATES = 100;
+    private static final int PHOTOS_PER_REAL_ESTATE = 20;
+    private static final int TAGS_PER_REAL_ESTATE = 10;
+    private static final int IMPORTED_REAL_ESTATES = 500;
+    private static final int IMPORTED_PHOTOS = 5;
+    private static final int IMPORTED_TAGS = 3;
+
+    private final RealEstateRepository realEstateRepository = new RealEstateRepositoryMybatisImpl();
+    private final ClientRepository clientRepository = new ClientRepositoryMybatisImpl();
+    private final AddressRepository addressRepository = new AddressRepositoryMybatisImpl();
+    private final PhotoRepository photoRepository = new PhotoRepositoryMybatisImpl();
+    private final TagRepository tagRepository = new TagRepositoryMybatisImpl();
+    private final RealEstateService realEstateService = new RealEstateServiceImpl();
+
+    @Test
+    public void availableByTypeBenchmarkTest() {
+        Supplier<List<RealEstate>> inMemory = () -> realEstateRepository.findAll().stream()
+                .filter(RealEstate::isAvailable)
+                .filter(realEstate -> realEstate.getRealEstateType() == RealEstateType.APARTMENT)
+                .collect(Collectors.toList());
+        Supplier<List<RealEstate>> pushedDown = () -> realEstateRepository.findAllAvailableByType(RealEstateType.APARTMENT);
+
+        compare("available by type", inMemory, pushedDown);
+    }
+
+    @Test
+    public void availableBenchmarkTest() {
+        Supplier<List<RealEstate>> inMemory = () -> realEstateRepository.findAll().stream()
+                .filter(RealEstate::isAvailable)
+                .collect(Collectors.toList());
+        Supplier<List<RealEstate>> pushedDown = realEstateRepository::findAllAvailable;
+
+        compare("available", inMemory, pushedDown);
+    }
+
+    @Test
+    public void bySellerBenchmarkTest() {
+        Supplier<List<RealEstate>> inMemory = () -> realEstateRepository.findAll().stream()
+                .filter(realEstate -> realEstate.getSeller().getId() == 1L)
+                .collect(Collectors.toList());
+        Supplier<List<RealEstate>> pushedDown = () -> realEstateRepository.findAllBySellerId(1L);
+
+        compare("by seller", inMemory, pushedDown);
+    }
+
+    @Test
+    public void joinVersusBatchFetchBenchmarkTest() {
+        Client seller = Client.builder()
+                .setFirstName("Bench")
+                .setLastName("Seller")
+                .setEmail("bench.seller@example.com")
+                .setPhoneNumber("+380990000001")
+                .setRegistrationDate(new Date())
+                .build();
+        clientRepository.create(seller);
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TAGS_PER_REAL_ESTATE; i++) {
+            Tag tag = new Tag();
+            tag.setName("bench-tag-" + i);
+            tagRepository.create(tag);
+            tags.add(tag);
+        }
+        List<RealEstate> seeded = new ArrayList<>();
+        try {
+            for (int i = 0; i < SEEDED_REAL_ESTATES; i++) {
+                seeded.add(seedRealEstate(seller, tags, i));
+            }
+
+            Supplier<List<RealEstate>> join = () -> realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.JOIN);
+            Supplier<List<RealEstate>> batch = () -> realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.BATCH);
+
+            List<RealEstate> joined = join.get();
+            List<RealEstate> batched = batch.get();
+            Assertions.assertEquals(SEEDED_REAL_ESTATES, batched.size());
+            joined.sort(Comparator.comparingLong(RealEstate::getId));
+            batched.sort(Comparator.comparingLong(RealEstate::getId));
+            for (int i = 0; i < joined.size(); i++) {
+                Assertions.assertEquals(new HashSet<>(joined.get(i).getPhotos()), new HashSet<>(batched.get(i).getPhotos()));
+                Assertions.assertEquals(new HashSet<>(joined.get(i).getTags()), new HashSet<>(batched.get(i).getTags()));
+                Assertions.assertEquals(PHOTOS_PER_REAL_ESTATE, batched.get(i).getPhotos().size());
+                Assertions.assertEquals(TAGS_PER_REAL_ESTATE, batched.get(i).getTags().size());
+            }
+
+            long joinNanos = measure(join);
+            long batchNanos = measure(batch);
+            LOGGER.info(String.format("%d real estates x %d photos x %d tags: JOIN %.3f ms/op, BATCH %.3f ms/op",
+                    SEEDED_REAL_ESTATES, PHOTOS_PER_REAL_ESTATE, TAGS_PER_REAL_ESTATE,
+                    joinNanos / 1_000_000.0, batchNanos / 1_000_000.0));
+        } finally {
+            for (RealEstate realEstate : seeded) {
+                realEstateRepository.deleteById(realEstate.getId());
+                addressRepository.deleteById(realEstate.getAddress().getId());
+            }
+            for (Tag tag : tags) {
+                tagRepository.deleteByName(tag.getName());
+            }
+            clientRepository.deleteById(seller.getId());
+        }
+    }
+
+    @Test
+    public void batchCreateBenchmarkTest() throws FieldValidationException {
+        Client seller = Client.builder()
+                .setFirstName("Import")
+                .setLastName("Seller")
+                .setEmail("import.seller@example.com")
+                .setPhoneNumber("+380990000002")
+                .setRegistrationDate(new Date())
+                .build();
+        clientRepository.create(seller);
+        List<RealEstate> rowByRow = buildImport(seller, "row");
+        List<RealEstate> batched = buildImport(seller, "batch");
+        long rows = (long) IMPORTED_REAL_ESTATES * (2 + IMPORTED_PHOTOS + IMPORTED_TAGS);
+        try {
+            long start = System.nanoTime();
+            for (RealEstate realEstate : rowByRow) {
+                addressRepository.create(realEstate.getAddress());
+                realEstateRepository.create(realEstate, seller.getId());
+                for (Photo photo : realEstate.getPhotos()) {
+                    photoRepository.create(photo, realEstate.getId());
+                }
+                for (Tag tag : realEstate.getTags()) {
+                    if (!tagRepository.existsByName(tag.getName())) {
+                        tagRepository.create(tag);
+                    }
+                    tagRepository.assignToRealEstate(tag, realEstate.getId());
+                }
+            }
+            long rowByRowNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            realEstateService.createAll(batched);
+            long batchNanos = System.nanoTime() - start;
+
+            for (RealEstate realEstate : batched) {
+                Assertions.assertNotEquals(0L, realEstate.getId());
+                Assertions.assertNotEquals(0L, realEstate.getAddress().getId());
+            }
+            List<RealEstate> stored = realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.BATCH);
+            Assertions.assertEquals(2 * IMPORTED_REAL_ESTATES, stored.size());
+            for (RealEstate realEstate : stored) {
+                Assertions.assertEquals(IMPORTED_PHOTOS, realEstate.getPhotos().size());
+                Assertions.assertEquals(IMPORTED_TAGS, realEstate.getTags().size());
+            }
+
+            LOGGER.info(String.format("%d rows: row by row %.0f rows/sec, createAll %.0f rows/sec",
+                    rows, rows * 1_000_000_000.0 / rowByRowNanos, rows * 1_000_000_000.0 / batchNanos));
+        } finally {
+            for (RealEstate realEstate : realEstateRepository.findAllBySellerId(seller.getId(), FetchMode.BATCH)) {
+                realEstateRepository.deleteById(realEstate.getId());
+                addressRepository.deleteById(realEstate.getAddress().getId());
+            }
+            for (int i = 0; i < IMPORTED_TAGS; i++) {
+                tagRepository.deleteByName("import-tag-" + i);
+            }
+            clientRepository.deleteById(seller.getId());
+        }
+    }
+
+    private List<RealEstate> buildImport(Client seller, String prefix) {
+        List<RealEstate> realEstates = new ArrayList<>();
+        for (int i = 0; i < IMPORTED_REAL_ESTATES; i++) {
+            Address address = new Address();
+            address.setCountry("Ukraine");
+            address.setRegion("import region");
+            address.setCity("Lviv");
+            address.setStreet("Import street");
+            address.setBuilding(String.valueOf(i));
+            address.setApartment(prefix);
+
+            RealEstate realEstate = new RealEstate();
+            realEstate.setPrice(BigDecimal.valueOf(50000 + i));
+            realEstate.setAvailable(true);
+            realEstate.setDescription("Imported listing " + i);
+            realEstate.setRealEstateType(RealEstateType.APARTMENT);
+            realEstate.setMetrics("40");
+            realEstate.setRooms(1);
+            realEstate.setAddress(address);
+            realEstate.setSeller(seller);
+            for (int j = 0; j < IMPORTED_PHOTOS; j++) {
+                Photo photo = new Photo();
+                photo.setLink(String.format("https://example.com/import/%s/%d/%d.jpg", prefix, i, j));
+                realEstate.addPhoto(photo);
+            }
+            for (int j = 0; j < IMPORTED_TAGS; j++) {
+                Tag tag = new Tag();
+                tag.setName("import-tag-" + j);
+                realEstate.addTag(tag);
+            }
+            realEstates.add(realEstate);
+        }
+        return realEstates;
+    }
+
+    private RealEstate seedRealEstate(Client seller, List<Tag> tags, int index) {
+        Address address = new Address();
+        address.setCountry("Ukraine");
+        address.setRegion("bench region");
+        address.setCity("Kyiv");
+        address.setStreet("Bench street");
+        address.setBuilding(String.valueOf(index));
+        address.setApartment("1");
+        addressRepository.create(address);
+
+        RealEstate realEstate = new RealEstate();
+        realEstate.setPrice(BigDecimal.valueOf(100000 + index));
+        realEstate.setAvailable(true);
+        realEstate.setDescription("Benchmark listing " + index);
+        realEstate.setRealEstateType(RealEstateType.APARTMENT);
+        realEstate.setMetrics("50");
+        realEstate.setRooms(2);
+        realEstate.setAddress(address);
+        realEstate.setSeller(seller);
+        realEstateRepository.create(realEstate, seller.getId());
+
+        for (int i = 0; i < PHOTOS_PER_REAL_ESTATE; i++) {
+            Photo photo = new Photo();
+            photo.setLink(String.format("https://example.com/bench/%d/%d.jpg", realEstate.getId(), i));
+            photoRepository.create(photo, realEstate.getId());
+        }
+        for (Tag tag : tags) {
+            tagRepository.assignToRealEstate(tag, realEstate.getId());
+        }
+        return realEstate;
+    }
+
+    @Test
+    public void existsBenchmarkTest() {
+        long realEstateId = realEstateRepository.findAll().get(0).getId();
+        long clientId = clientRepository.findAll().get(0).getId();
+        Assertions.assertEquals(realEstateRepository.findById(realEstateId).isPresent(), realEstateRepository.existsById(realEstateId));
+        Assertions.assertEquals(realEstateRepository.findById(realEstateId).filter(RealEstate::isAvailable).isPresent(),
+                realEstateRepository.existsAvailableById(realEstateId));
+        Assertions.assertFalse(realEstateRepository.existsById(-1));
+
+        long fetchNanos = measure(() -> realEstateRepository.findById(realEstateId).filter(RealEstate::isAvailable).isPresent());
+        long existsNanos = measure(() -> realEstateRepository.existsAvailableById(realEstateId));
+        LOGGER.info(String.format("real estate exists: findById %.3f ms/op, SELECT EXISTS %.3f ms/op",
+                fetchNanos / 1_000_000.0, existsNanos / 1_000_000.0));
+
+        fetchNanos = measure(() -> clientRepository.findById(clientId).isPresent());
+        existsNanos = measure(() -> clientRepository.existsById(clientId));
+        LOGGER.info(String.format("client exists: findById %.3f ms/op, SELECT EXISTS %.3f ms/op",
+                fetchNanos / 1_000_000.0, existsNanos / 1_000_000.0));
+    }
+
+    private void compare(String name, Supplier<List<RealEstate>> inMemory, Supplier<List<RealEstate>> pushedDown) {
+        Assertions.assertEquals(new HashSet<>(inMemory.get()), new HashSet<>(pushedDown.get()));
+
+        long inMemoryNanos = measure(inMemory);
+        long pushedDownNanos = measure(pushedDown);
+        LOGGER.info(String.format("%s: findAll + filter %.3f ms/op, SQL filter %.3f ms/op",
+                name, inMemoryNanos / 1_000_000.0, pushedDownNanos / 1_000_000.0));
+    }
+
+    private long measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
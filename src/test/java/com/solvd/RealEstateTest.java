@@ -3,25 +3,39 @@ package com.solvd;
 import com.solvd.domain.Address;
 import com.solvd.domain.Client;
 import com.solvd.domain.RealEstate;
+import com.solvd.domain.RealEstateFilter;
+import com.solvd.domain.Tag;
 import com.solvd.domain.enums.RealEstateType;
+import com.solvd.domain.exceptions.ConcurrentUpdateException;
 import com.solvd.domain.exceptions.EmailAlreadyExistsException;
 import com.solvd.domain.exceptions.EntityNotFoundException;
 import com.solvd.domain.exceptions.FieldValidationException;
 import com.solvd.domain.exceptions.PhoneNumberAlreadyExistsException;
+import com.solvd.persistence.RealEstateRepository;
+import com.solvd.persistence.impl.RealEstateRepositoryMybatisImpl;
 import com.solvd.service.AddressService;
 import com.solvd.service.ClientService;
 import com.solvd.service.RealEstateService;
+import com.solvd.service.TagService;
+import com.solvd.service.cache.CacheStats;
 import com.solvd.service.impl.AddressServiceImpl;
 import com.solvd.service.impl.ClientServiceImpl;
 import com.solvd.service.impl.RealEstateServiceImpl;
+import com.solvd.service.impl.TagServiceImpl;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class RealEstateTest {
     private static final Logger LOGGER = LogManager.getLogger(RealEstateTest.class);
@@ -29,6 +43,8 @@ public class RealEstateTest {
     private final RealEstateService realEstateService = new RealEstateServiceImpl();
     private final ClientService clientService = new ClientServiceImpl();
     private final AddressService addressService = new AddressServiceImpl();
+    private final TagService tagService = new TagServiceImpl();
+    private final RealEstateRepository realEstateRepository = new RealEstateRepositoryMybatisImpl();
 
     @Test
     public void createRealEstateTest() throws EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException {
@@ -75,7 +91,7 @@ public class RealEstateTest {
     }
 
     @Test
-    public void updateRealEstateTest() throws EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException {
+    public void updateRealEstateTest() throws EntityNotFoundException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, FieldValidationException, ConcurrentUpdateException {
         Client.Builder builder = new Client.Builder();
         builder.setFirstName("John");
         builder.setLastName("Doe");
@@ -236,4 +252,208 @@ public class RealEstateTest {
             LOGGER.error(e.getMessage());
         }
     }
+
+    @Test
+    public void getPageRealEstatesTest() throws FieldValidationException {
+        List<Long> pagedIds = new ArrayList<>();
+        List<RealEstate> page = realEstateService.getPage(0, 2, RealEstateFilter.available());
+        while (!page.isEmpty()) {
+            Assertions.assertTrue(page.size() <= 2);
+            page.forEach(realEstate -> pagedIds.add(realEstate.getId()));
+            page = realEstateService.getPage(page.get(page.size() - 1).getId(), 2, RealEstateFilter.available());
+        }
+
+        List<Long> availableIds = realEstateService.getAllAvailable().stream()
+                .map(RealEstate::getId)
+                .sorted()
+                .collect(Collectors.toList());
+        Assertions.assertEquals(availableIds, pagedIds);
+        Assertions.assertThrows(FieldValidationException.class,
+                () -> realEstateService.getPage(0, 0, RealEstateFilter.available()));
+    }
+
+    @Test
+    public void firstPageResultCacheTest() throws FieldValidationException {
+        List<RealEstate> firstPage = realEstateService.getPage(0, 2, RealEstateFilter.available());
+        QueryCounter.reset();
+        Assertions.assertEquals(firstPage, realEstateService.getPage(0, 2, RealEstateFilter.available()));
+        Assertions.assertEquals(0, QueryCounter.count());
+
+        realEstateService.getPage(firstPage.get(firstPage.size() - 1).getId(), 2, RealEstateFilter.available());
+        Assertions.assertTrue(QueryCounter.count() > 0);
+    }
+
+    @Test
+    public void streamAllRealEstatesTest() throws IOException {
+        Set<RealEstate> streamed = new HashSet<>();
+        Cursor<RealEstate> cursor = realEstateRepository.streamAll();
+        try (cursor) {
+            for (RealEstate realEstate : cursor) {
+                Assertions.assertTrue(streamed.add(realEstate));
+                Assertions.assertNotNull(realEstate.getAddress());
+            }
+        }
+
+        Assertions.assertFalse(cursor.isOpen());
+        Assertions.assertEquals(new HashSet<>(realEstateRepository.findAll()), streamed);
+    }
+
+    @Test
+    public void listingCacheTest() throws EntityNotFoundException, FieldValidationException, ConcurrentUpdateException {
+        RealEstate realEstate = realEstateService.getAllAvailable().get(0);
+        BigDecimal originalPrice = realEstate.getPrice();
+        realEstateService.getAvailableById(realEstate.getId());
+
+        CacheStats before = realEstateService.getCacheStats();
+        QueryCounter.reset();
+        RealEstate cached = realEstateService.getAvailableById(realEstate.getId());
+        Assertions.assertTrue(realEstateService.existsAvailableById(realEstate.getId()));
+        CacheStats after = realEstateService.getCacheStats();
+
+        Assertions.assertEquals(0, QueryCounter.count());
+        Assertions.assertEquals(before.getHits() + 2, after.getHits());
+        Assertions.assertEquals(before.getMisses(), after.getMisses());
+        Assertions.assertEquals(realEstate, cached);
+
+        try {
+            cached.setPrice(originalPrice.add(BigDecimal.ONE));
+            realEstateService.update(cached);
+            Assertions.assertEquals(0, originalPrice.add(BigDecimal.ONE)
+                    .compareTo(realEstateService.getAvailableById(realEstate.getId()).getPrice()));
+        } finally {
+            RealEstate restored = realEstateRepository.findById(realEstate.getId()).orElseThrow();
+            restored.setPrice(originalPrice);
+            realEstateService.update(restored);
+        }
+    }
+
+    @Test
+    public void listingCacheReturnsCopiesTest() throws EntityNotFoundException, FieldValidationException {
+        RealEstate realEstate = realEstateService.getAllAvailable().get(0);
+        RealEstate cached = realEstateService.getAvailableById(realEstate.getId());
+        String description = cached.getDescription();
+        long version = cached.getVersion();
+
+        cached.setDescription(description + " (edited)");
+        cached.setVersion(version - 1);
+        Assertions.assertThrows(ConcurrentUpdateException.class, () -> realEstateService.update(cached));
+
+        RealEstate reread = realEstateService.getAvailableById(realEstate.getId());
+        Assertions.assertNotSame(cached, reread);
+        Assertions.assertEquals(description, reread.getDescription());
+        Assertions.assertEquals(version, reread.getVersion());
+    }
+
+    @Test
+    public void photoAndTagWritesInvalidateResultsTest() throws FieldValidationException {
+        RealEstate realEstate = realEstateService.getAllAvailable().get(0);
+        Tag tag = new Tag();
+        tag.setName("result-cache-test");
+
+        long before = realEstateService.getResultCacheStats().getVersion();
+        tagService.assignToRealEstate(tag, realEstate.getId());
+        try {
+            Assertions.assertTrue(realEstateService.getResultCacheStats().getVersion() > before);
+            Assertions.assertTrue(realEstateService.getAllAvailable().stream()
+                    .filter(realEstate::equals)
+                    .anyMatch(cached -> cached.getTags().contains(tag)));
+        } finally {
+            tagService.deleteByName(tag.getName());
+        }
+        Assertions.assertTrue(realEstateService.getAllAvailable().stream()
+                .filter(realEstate::equals)
+                .noneMatch(cached -> cached.getTags().contains(tag)));
+    }
+
+    @Test
+    public void sellerAndAddressWritesInvalidateResultsTest() throws FieldValidationException, EntityNotFoundException,
+            EmailAlreadyExistsException, PhoneNumberAlreadyExistsException, ConcurrentUpdateException {
+        Client client = Client.builder()
+                .setFirstName("Cascade")
+                .setLastName("Seller")
+                .setEmail("cascade.seller@example.com")
+                .setPhoneNumber("+380991112244")
+                .setRegistrationDate(new Date())
+                .build();
+        clientService.create(client);
+        Address address = new Address();
+        address.setCountry("Ukraine");
+        address.setRegion("western region");
+        address.setCity("Lviv");
+        address.setStreet("Cascade street");
+        address.setBuilding("1");
+        address.setApartment("N/A");
+        RealEstate realEstate = new RealEstate();
+        realEstate.setPrice(BigDecimal.valueOf(250000));
+        realEstate.setAvailable(true);
+        realEstate.setDescription("Cascaded building");
+        realEstate.setRealEstateType(RealEstateType.BUILDING);
+        realEstate.setMetrics("300");
+        realEstate.setRooms(6);
+        realEstate.setAddress(address);
+        realEstate.setSeller(client);
+        realEstateService.create(realEstate, client.getId());
+
+        try {
+            realEstateService.getAvailableById(realEstate.getId());
+            address.setStreet("Renamed cascade street");
+            addressService.update(address);
+            Assertions.assertEquals("Renamed cascade street", realEstateService.getAllAvailable().stream()
+                    .filter(realEstate::equals)
+                    .findFirst().orElseThrow()
+                    .getAddress().getStreet());
+            Assertions.assertEquals("Renamed cascade street",
+                    realEstateService.getAvailableById(realEstate.getId()).getAddress().getStreet());
+
+            clientService.deleteById(client.getId());
+            Assertions.assertFalse(realEstateService.getAllAvailable().contains(realEstate));
+            Assertions.assertThrows(EntityNotFoundException.class, () -> realEstateService.getAvailableById(realEstate.getId()));
+        } finally {
+            clientService.deleteById(client.getId());
+            addressService.deleteById(address.getId());
+        }
+    }
+
+    @Test
+    public void availableResultCacheTest() throws FieldValidationException, EmailAlreadyExistsException, PhoneNumberAlreadyExistsException {
+        List<RealEstate> buildings = realEstateService.getAllAvailableByType(RealEstateType.BUILDING);
+        QueryCounter.reset();
+        Assertions.assertEquals(buildings, realEstateService.getAllAvailableByType(RealEstateType.BUILDING));
+        Assertions.assertEquals(0, QueryCounter.count());
+
+        Client client = Client.builder()
+                .setFirstName("Cache")
+                .setLastName("Seller")
+                .setEmail("cache.seller@example.com")
+                .setPhoneNumber("+380991112233")
+                .setRegistrationDate(new Date())
+                .build();
+        clientService.create(client);
+        Address address = new Address();
+        address.setCountry("Ukraine");
+        address.setRegion("western region");
+        address.setCity("Lviv");
+        address.setStreet("Cache street");
+        address.setBuilding("1");
+        address.setApartment("N/A");
+        RealEstate realEstate = new RealEstate();
+        realEstate.setPrice(BigDecimal.valueOf(300000));
+        realEstate.setAvailable(true);
+        realEstate.setDescription("Cached building");
+        realEstate.setRealEstateType(RealEstateType.BUILDING);
+        realEstate.setMetrics("400");
+        realEstate.setRooms(8);
+        realEstate.setAddress(address);
+        realEstate.setSeller(client);
+        realEstateService.create(realEstate, client.getId());
+
+        try {
+            Assertions.assertTrue(realEstateService.getAllAvailableByType(RealEstateType.BUILDING).contains(realEstate));
+        } finally {
+            realEstateService.deleteById(realEstate.getId());
+            addressService.deleteById(address.getId());
+            clientService.deleteById(client.getId());
+        }
+        Assertions.assertFalse(realEstateService.getAllAvailableByType(RealEstateType.BUILDING).contains(realEstate));
+    }
 }
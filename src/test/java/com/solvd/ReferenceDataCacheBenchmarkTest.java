@@ -0,0 +1,66 @@
+package com.solvd;
+
+import com.solvd.domain.Employee;
+import com.solvd.domain.Tag;
+import com.solvd.persistence.BoundedMapperCache;
+import com.solvd.persistence.EmployeeRepository;
+import com.solvd.persistence.TagRepository;
+import com.solvd.persistence.impl.EmployeeRepositoryMybatisImpl;
+import com.solvd.persistence.impl.TagRepositoryMybatisImpl;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class ReferenceDataCacheBenchmarkTest {
+    private static final Logger LOGGER = LogManager.getLogger(ReferenceDataCacheBenchmarkTest.class);
+    private static final int BOOKINGS = 500;
+    private static final int WRITE_EVERY = 50;
+    private static final int CALLS_PER_BOOKING = 4;
+
+    private final EmployeeRepository employeeRepository = new EmployeeRepositoryMybatisImpl();
+    private final TagRepository tagRepository = new TagRepositoryMybatisImpl();
+
+    @Test
+    public void bookingWorkloadHitRateTest() {
+        BoundedMapperCache employeeCache = BoundedMapperCache.forNamespace(EmployeeRepository.class.getName()).orElseThrow();
+        BoundedMapperCache tagCache = BoundedMapperCache.forNamespace(TagRepository.class.getName()).orElseThrow();
+        employeeCache.resetStatistics();
+        tagCache.resetStatistics();
+        Random random = new Random(42);
+        List<String> tagNames = List.of("Luxury", "Garden", "Studio", "missing-tag");
+
+        QueryCounter.reset();
+        long start = System.nanoTime();
+        for (int i = 0; i < BOOKINGS; i++) {
+            List<Employee> employees = employeeRepository.findAll();
+            Employee employee = employees.get(random.nextInt(employees.size()));
+            Assertions.assertEquals(employee, employeeRepository.findById(employee.getId()).orElseThrow());
+            tagRepository.findAll();
+            tagRepository.existsByName(tagNames.get(random.nextInt(tagNames.size())));
+
+            if (i % WRITE_EVERY == WRITE_EVERY - 1) {
+                employeeRepository.update(employee);
+                Tag tag = new Tag();
+                tag.setName("booking-tag-" + i);
+                tagRepository.create(tag);
+                Assertions.assertTrue(tagRepository.findAll().contains(tag));
+                tagRepository.deleteByName(tag.getName());
+                Assertions.assertFalse(tagRepository.existsByName(tag.getName()));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        int queries = QueryCounter.count();
+
+        LOGGER.info(String.format("%d bookings in %.1f ms: %d statements for %d reference reads, "
+                        + "employee cache hit rate %.2f, tag cache hit rate %.2f",
+                BOOKINGS, elapsedNanos / 1_000_000.0, queries, BOOKINGS * CALLS_PER_BOOKING,
+                employeeCache.getHitRate(), tagCache.getHitRate()));
+        Assertions.assertTrue(employeeCache.getHitRate() > 0.9);
+        Assertions.assertTrue(tagCache.getHitRate() > 0.8);
+        Assertions.assertTrue(queries < BOOKINGS * CALLS_PER_BOOKING / 4);
+    }
+}
@@ -0,0 +1,67 @@
+package com.solvd;
+
+import com.solvd.persistence.AddressRepository;
+import com.solvd.persistence.impl.AddressRepositoryMybatisImpl;
+import com.solvd.persistence.metrics.LatencyHistogram;
+import com.solvd.persistence.metrics.StatementMetrics;
+import com.solvd.persistence.metrics.StatementMetricsInterceptor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+public class StatementMetricsTest {
+    private static final Logger LOGGER = LogManager.getLogger(StatementMetricsTest.class);
+    private static final String STATEMENT_ID = "com.solvd.persistence.AddressRepository.existsById";
+
+    @Test
+    public void histogramPercentilesTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1_000; micros++) {
+            histogram.record(micros);
+        }
+
+        Assertions.assertEquals(1_000, histogram.getCount());
+        Assertions.assertEquals(500.5, histogram.getMean(), 0.001);
+        Assertions.assertEquals(1_000, histogram.getMax());
+        assertWithinBucket(500, histogram.getPercentile(50));
+        assertWithinBucket(950, histogram.getPercentile(95));
+        assertWithinBucket(990, histogram.getPercentile(99));
+        Assertions.assertEquals(1_000, histogram.getPercentile(100));
+
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getPercentile(99));
+    }
+
+    @Test
+    public void recordsStatementsThroughJmxTest() throws JMException {
+        AddressRepository addressRepository = new AddressRepositoryMybatisImpl();
+        addressRepository.existsById(1);
+        StatementMetrics metrics = StatementMetricsInterceptor.forStatement(STATEMENT_ID).orElseThrow();
+        long calls = metrics.getCalls();
+        long rows = metrics.getRows();
+
+        addressRepository.existsById(1);
+        addressRepository.existsById(2);
+
+        LOGGER.info(metrics);
+        Assertions.assertEquals(calls + 2, metrics.getCalls());
+        Assertions.assertEquals(rows + 2, metrics.getRows());
+        Assertions.assertTrue(metrics.getP99Millis() >= metrics.getP50Millis());
+        Assertions.assertTrue(metrics.getMaxMillis() > 0);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.solvd.persistence:type=StatementMetrics,name=" + ObjectName.quote(STATEMENT_ID));
+        Assertions.assertEquals(metrics.getCalls(), server.getAttribute(name, "Calls"));
+    }
+
+    private void assertWithinBucket(long expected, long actual) {
+        Assertions.assertTrue(actual >= expected && actual <= expected * 1.125, expected + " reported as " + actual);
+    }
+}
@@ -0,0 +1,111 @@
+package com.solvd;
+
+import com.solvd.domain.Client;
+import com.solvd.domain.exceptions.EntityNotFoundException;
+import com.solvd.persistence.metrics.ChromeTraceWriter;
+import com.solvd.persistence.metrics.Span;
+import com.solvd.persistence.metrics.TraceEvent;
+import com.solvd.persistence.metrics.Tracer;
+import com.solvd.service.ClientService;
+import com.solvd.service.MeetingService;
+import com.solvd.service.impl.ClientServiceImpl;
+import com.solvd.service.impl.MeetingServiceImpl;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class TracerTest {
+    private static final Logger LOGGER = LogManager.getLogger(TracerTest.class);
+
+    private final ClientService clientService = new ClientServiceImpl();
+    private final MeetingService meetingService = new MeetingServiceImpl();
+
+    @Test
+    public void nestsActionServiceAndStatementSpansTest() throws EntityNotFoundException {
+        List<TraceEvent> events = new ArrayList<>();
+        Tracer tracer = new Tracer(1.0, events::addAll);
+        MeetingService tracedService = tracer.wrap(MeetingService.class, meetingService, Tracer.SERVICE);
+        Client client = clientService.getById(2L);
+
+        Span span = tracer.start(Tracer.ACTION, "MeetingAction.viewClientsMeetings");
+        try {
+            tracedService.getByClient(client);
+        } finally {
+            span.close();
+        }
+
+        LOGGER.info(events);
+        Map<String, TraceEvent> byCategory = events.stream()
+                .collect(Collectors.toMap(TraceEvent::getCategory, Function.identity()));
+        Assertions.assertEquals(3, events.size());
+        TraceEvent action = byCategory.get(Tracer.ACTION);
+        TraceEvent service = byCategory.get(Tracer.SERVICE);
+        TraceEvent statement = byCategory.get(Tracer.STATEMENT);
+        Assertions.assertEquals("MeetingService.getByClient", service.getName());
+        Assertions.assertEquals("com.solvd.persistence.MeetingRepository.findAllByBuyerId", statement.getName());
+        assertEncloses(action, service);
+        assertEncloses(service, statement);
+    }
+
+    @Test
+    public void unsampledTraceRecordsNothingTest() {
+        List<TraceEvent> events = new ArrayList<>();
+        Tracer tracer = new Tracer(Double.MIN_VALUE, events::addAll);
+
+        Span span = tracer.start(Tracer.ACTION, "RealEstateAction.viewAllRealEstates");
+        try {
+            meetingService.getAll();
+        } finally {
+            span.close();
+        }
+
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void disabledTracerReturnsTargetTest() {
+        Tracer tracer = new Tracer(0, events -> Assertions.fail("nothing should be written"));
+
+        Assertions.assertSame(meetingService, tracer.wrap(MeetingService.class, meetingService, Tracer.SERVICE));
+        Span span = tracer.start(Tracer.ACTION, "UserAction.settings");
+        try {
+            meetingService.getAll();
+        } finally {
+            span.close();
+        }
+    }
+
+    @Test
+    public void writesChromeTraceFormatTest() throws IOException {
+        Path file = Files.createTempFile("trace", ".json");
+        Files.delete(file);
+        ChromeTraceWriter writer = new ChromeTraceWriter(file);
+
+        writer.write(List.of(new TraceEvent(Tracer.ACTION, "UserAction.\"login\"", 1_000, 250, 1)));
+        writer.write(List.of(new TraceEvent(Tracer.STATEMENT, "ClientRepository.findById", 1_100, 50, 1)));
+
+        List<String> lines = Files.readAllLines(file);
+        LOGGER.info(lines);
+        Assertions.assertEquals("[", lines.get(0));
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertTrue(lines.get(1).startsWith("{\"name\":\"UserAction.\\\"login\\\"\",\"cat\":\"action\",\"ph\":\"X\",\"ts\":1000,\"dur\":250,"));
+        Assertions.assertTrue(lines.get(2).endsWith("\"tid\":1},"));
+        Files.delete(file);
+    }
+
+    private void assertEncloses(TraceEvent outer, TraceEvent inner) {
+        Assertions.assertTrue(outer.getStartMicros() <= inner.getStartMicros()
+                        && inner.getStartMicros() + inner.getDurationMicros() <= outer.getStartMicros() + outer.getDurationMicros(),
+                outer + " does not enclose " + inner);
+    }
+}
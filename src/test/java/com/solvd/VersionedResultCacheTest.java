@@ -0,0 +1,84 @@
+package com.solvd;
+
+import com.solvd.service.cache.ResultCacheStats;
+import com.solvd.service.cache.VersionedResultCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class VersionedResultCacheTest {
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final VersionedResultCache<String, String> cache = new VersionedResultCache<>(pendingRefreshes::add, 10, Duration.ofMinutes(1));
+
+    @Test
+    public void serveStaleWhileRevalidatingTest() throws InterruptedException {
+        Assertions.assertEquals("v1", cache.get("available", () -> "v1"));
+        Assertions.assertEquals("v1", cache.get("available", () -> "unused"));
+
+        Thread writer = new Thread(cache::bumpVersion);
+        writer.start();
+        writer.join();
+
+        Assertions.assertEquals("v1", cache.get("available", () -> "v2"));
+        Assertions.assertEquals("v1", cache.get("available", () -> "v2"));
+        Assertions.assertEquals(1, pendingRefreshes.size());
+
+        pendingRefreshes.remove(0).run();
+
+        Assertions.assertEquals("v2", cache.get("available", () -> "unused"));
+        ResultCacheStats stats = cache.getStats();
+        Assertions.assertEquals(2, stats.getHits());
+        Assertions.assertEquals(2, stats.getStaleHits());
+        Assertions.assertEquals(1, stats.getMisses());
+        Assertions.assertEquals(1, stats.getRefreshes());
+    }
+
+    @Test
+    public void writerReadsOwnWritesTest() {
+        Assertions.assertEquals("v1", cache.get("available", () -> "v1"));
+
+        cache.bumpVersion();
+
+        Assertions.assertEquals("v2", cache.get("available", () -> "v2"));
+        Assertions.assertTrue(pendingRefreshes.isEmpty());
+        Assertions.assertEquals("v2", cache.get("available", () -> "unused"));
+    }
+
+    @Test
+    public void reloadsAfterMaxAgeTest() throws InterruptedException {
+        VersionedResultCache<String, String> shortLived = new VersionedResultCache<>(pendingRefreshes::add, 10, Duration.ofMillis(20));
+        Assertions.assertEquals("v1", shortLived.get("available", () -> "v1"));
+        Assertions.assertEquals("v1", shortLived.get("available", () -> "unused"));
+
+        Thread.sleep(50);
+
+        Assertions.assertEquals("v2", shortLived.get("available", () -> "v2"));
+        Assertions.assertTrue(pendingRefreshes.isEmpty());
+        Assertions.assertEquals(2, shortLived.getStats().getMisses());
+    }
+
+    @Test
+    public void evictsOldestWhenFullTest() {
+        VersionedResultCache<String, String> small = new VersionedResultCache<>(pendingRefreshes::add, 2, Duration.ofMinutes(1));
+        small.get("first", () -> "1");
+        small.get("second", () -> "2");
+        small.get("third", () -> "3");
+
+        Assertions.assertEquals("reloaded", small.get("first", () -> "reloaded"));
+        Assertions.assertEquals("3", small.get("third", () -> "unused"));
+    }
+
+    @Test
+    public void storesAndReturnsCopiesTest() {
+        VersionedResultCache<String, List<StringBuilder>> copying = new VersionedResultCache<>(pendingRefreshes::add, 10,
+                Duration.ofMinutes(1), values -> List.of(new StringBuilder(values.get(0))));
+        List<StringBuilder> loaded = copying.get("available", () -> List.of(new StringBuilder("v1")));
+        loaded.get(0).append("-edited");
+        copying.get("available", List::of).get(0).append("-edited");
+
+        Assertions.assertEquals("v1", copying.get("available", List::of).get(0).toString());
+    }
+}